@@ -0,0 +1,28 @@
+package mate.academy.carsharing.app.config;
+
+import io.micrometer.core.instrument.Tags;
+import org.springframework.boot.actuate.data.redis.RedisHealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+    public static final String CAR_BY_ID = "carById";
+    public static final String CAR_PAGES = "carPages";
+    private static final String STANDALONE_CACHE_MANAGER = "none";
+
+    public static Tags standaloneCacheTags(String cacheName) {
+        return Tags.of("cache.manager", STANDALONE_CACHE_MANAGER, "name", cacheName);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+    public RedisHealthIndicator redisHealthIndicator(RedisConnectionFactory connectionFactory) {
+        return new RedisHealthIndicator(connectionFactory);
+    }
+}
@@ -0,0 +1,90 @@
+package mate.academy.carsharing.app.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Metrics;
+import javax.sql.DataSource;
+import mate.academy.carsharing.app.datasource.ReplicaLagMonitor;
+import mate.academy.carsharing.app.datasource.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@Configuration
+public class DataSourceConfig {
+    private static final String REPLICA_CONFIGURED = "!'${datasource.replica.url:}'.isEmpty()";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.pool.connections-per-core:2}") int connectionsPerCore,
+            @Value("${datasource.pool.spindles:1}") int spindles
+    ) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setMaximumPoolSize(poolSize(connectionsPerCore, spindles));
+        dataSource.setMetricsTrackerFactory(
+                new MicrometerMetricsTrackerFactory(Metrics.globalRegistry));
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnExpression(REPLICA_CONFIGURED)
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password}}") String password,
+            @Value("${datasource.pool.connections-per-core:2}") int connectionsPerCore,
+            @Value("${datasource.pool.spindles:1}") int spindles
+    ) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setMaximumPoolSize(poolSize(connectionsPerCore, spindles));
+        dataSource.setMetricsTrackerFactory(
+                new MicrometerMetricsTrackerFactory(Metrics.globalRegistry));
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnExpression(REPLICA_CONFIGURED)
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds
+    ) {
+        return new ReplicaLagMonitor(replicaDataSource, maxLagSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+            ObjectProvider<ReplicaLagMonitor> replicaLagMonitor
+    ) {
+        ReplicaLagMonitor lagMonitor = replicaLagMonitor.getIfAvailable();
+        if (lagMonitor == null) {
+            return new LazyConnectionDataSourceProxy(primaryDataSource);
+        }
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource.getObject(), lagMonitor));
+    }
+
+    private int poolSize(int connectionsPerCore, int spindles) {
+        return Runtime.getRuntime().availableProcessors() * connectionsPerCore + spindles;
+    }
+}
@@ -0,0 +1,19 @@
+package mate.academy.carsharing.app.config;
+
+import mate.academy.carsharing.app.service.util.QueryCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    public static final String SERVICE_TIMER = "carsharing.service";
+    public static final String SERVICE_FAILURES = "carsharing.service.failures";
+    public static final String REQUEST_QUERIES = "http.server.requests.queries";
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer(QueryCounter queryCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCounter);
+    }
+}
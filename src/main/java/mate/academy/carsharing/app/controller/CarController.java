@@ -4,15 +4,26 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import lombok.RequiredArgsConstructor;
+import mate.academy.carsharing.app.dto.VersionedDto;
 import mate.academy.carsharing.app.dto.car.CarDto;
+import mate.academy.carsharing.app.dto.car.CarFileFormat;
+import mate.academy.carsharing.app.dto.car.CarImportReportDto;
+import mate.academy.carsharing.app.dto.car.CarSearchParametersDto;
+import mate.academy.carsharing.app.dto.car.CarSearchResultDto;
 import mate.academy.carsharing.app.dto.car.CreateCarDto;
 import mate.academy.carsharing.app.dto.car.UpdateCarInventoryDto;
+import mate.academy.carsharing.app.service.CarBulkService;
 import mate.academy.carsharing.app.service.CarService;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,9 +32,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Car", description = "Endpoints for managing cars")
 @RestController
@@ -31,7 +45,10 @@ import org.springframework.web.bind.annotation.RestController;
 @SecurityRequirement(name = "BearerAuth")
 @RequiredArgsConstructor
 public class CarController {
+    private static final String WEAK_ETAG = "W/\"%s\"";
+
     private final CarService carService;
+    private final CarBulkService carBulkService;
 
     @PostMapping
     @PreAuthorize("hasAuthority('ROLE_MANAGER')")
@@ -41,10 +58,36 @@ public class CarController {
         return carService.addCar(createCarDto);
     }
 
+    @PostMapping(value = "/bulk",
+            consumes = {CarFileFormat.CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    @Operation(summary = "Import cars",
+            description = "Saving cars from a CSV or NDJSON file, invalid rows are reported")
+    public CarImportReportDto importCars(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream inputStream) throws IOException {
+        return carBulkService.importCars(inputStream, CarFileFormat.fromMediaType(contentType));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('ROLE_MANAGER')")
+    @Operation(summary = "Export cars", description = "Downloading all cars as CSV or NDJSON")
+    public ResponseEntity<StreamingResponseBody> exportCars(
+            @RequestParam(defaultValue = "CSV") CarFileFormat format) {
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=cars." + format.name().toLowerCase())
+                .body(outputStream -> carBulkService.exportCars(outputStream, format));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get a car by id", description = "Viewing all information by car id")
-    public CarDto findCarById(@PathVariable Long id) {
-        return carService.findCarById(id);
+    public ResponseEntity<CarDto> findCarById(@PathVariable Long id) {
+        VersionedDto<CarDto> car = carService.findCarById(id);
+        return ResponseEntity.ok()
+                .eTag(WEAK_ETAG.formatted(car.version()))
+                .body(car.body());
     }
 
     @PutMapping("/{id}")
@@ -57,8 +100,20 @@ public class CarController {
 
     @GetMapping
     @Operation(summary = "View cars", description = "Viewing list of all cars information")
-    public Page<CarDto> getAllCars(@ParameterObject Pageable pageable) {
-        return carService.getAllCars(pageable);
+    public ResponseEntity<Page<CarDto>> getAllCars(@ParameterObject Pageable pageable) {
+        VersionedDto<Page<CarDto>> cars = carService.getAllCars(pageable);
+        return ResponseEntity.ok()
+                .eTag(WEAK_ETAG.formatted(cars.version()))
+                .body(cars.body());
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search cars",
+            description = "Filtering cars by type, brand, price and availability, "
+                    + "use the returned next id as the after parameter for the next page")
+    public CarSearchResultDto searchCars(
+            @ParameterObject @Valid CarSearchParametersDto parameters) {
+        return carService.searchCars(parameters);
     }
 
     @PatchMapping("/{id}")
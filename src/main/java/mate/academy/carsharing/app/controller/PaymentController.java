@@ -9,11 +9,11 @@ import lombok.RequiredArgsConstructor;
 import mate.academy.carsharing.app.dto.payment.PaymentDto;
 import mate.academy.carsharing.app.dto.payment.PaymentRequestDto;
 import mate.academy.carsharing.app.dto.payment.PaymentResponseDto;
+import mate.academy.carsharing.app.dto.payment.PaymentSuccessResponse;
 import mate.academy.carsharing.app.dto.payment.PaymentWithSessionDto;
-import mate.academy.carsharing.app.exception.MessageDispatchException;
 import mate.academy.carsharing.app.model.Payment;
-import mate.academy.carsharing.app.repository.PaymentRepository;
 import mate.academy.carsharing.app.service.PaymentService;
+import mate.academy.carsharing.app.service.StripeWebhookService;
 import mate.academy.carsharing.app.service.UserService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -27,11 +27,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.server.ResponseStatusException;
 
 @Tag(name = "Payment", description = "Endpoints for managing payments")
 @RestController
@@ -41,7 +41,7 @@ import org.springframework.web.server.ResponseStatusException;
 public class PaymentController {
     private final PaymentService paymentService;
     private final UserService userService;
-    private final PaymentRepository paymentRepository;
+    private final StripeWebhookService stripeWebhookService;
 
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping("/create")
@@ -56,11 +56,25 @@ public class PaymentController {
     @PreAuthorize("hasAuthority('ROLE_MANAGER')")
     @Operation(summary = "Stripe success redirect",
             description = "Stripe redirects here after successful payment")
-    public ResponseEntity<String> paymentSuccess(@RequestParam("session_id") String sessionId)
-            throws MessageDispatchException {
-        paymentService.paymentSuccess(sessionId);
+    public ResponseEntity<PaymentSuccessResponse> paymentSuccess(
+            @RequestParam("session_id") String sessionId) {
+        Payment.Status status = paymentService.paymentSuccess(sessionId);
 
-        return ResponseEntity.ok("Payment success processed");
+        if (status == Payment.Status.PENDING) {
+            return ResponseEntity.accepted().body(new PaymentSuccessResponse(sessionId,
+                    status.name(), "Payment is waiting for confirmation from Stripe"));
+        }
+        return ResponseEntity.ok(new PaymentSuccessResponse(sessionId,
+                status.name(), "Payment success processed"));
+    }
+
+    @PostMapping("/webhook")
+    @Operation(summary = "Stripe webhook",
+            description = "Receives signed Stripe events confirming checkout sessions")
+    public ResponseEntity<Void> handleWebhook(@RequestBody String payload,
+            @RequestHeader("Stripe-Signature") String signature) {
+        stripeWebhookService.handleEvent(payload, signature);
+        return ResponseEntity.ok().build();
     }
 
     @GetMapping("/cancel")
@@ -68,18 +82,11 @@ public class PaymentController {
     @Operation(summary = "Stripe cancel redirect",
             description = "Stripe redirects here after cancelled payment")
     public ResponseEntity<String> paymentCancel(@RequestParam("session_id") String sessionId) {
-        Payment payment = paymentRepository.findBySessionId(sessionId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-                        "Payment not found"));
-
-        if (payment.getStatus() != Payment.Status.PENDING) {
+        if (!paymentService.paymentCancel(sessionId)) {
             return ResponseEntity.ok("Payment was not"
                     + " cancelled because it is not in PENDING status");
         }
 
-        payment.setStatus(Payment.Status.CANCELLED);
-        paymentRepository.save(payment);
-
         return ResponseEntity.ok("Your payment was cancelled!");
     }
 
@@ -107,6 +114,6 @@ public class PaymentController {
     }
 
     private Long getUserId(Authentication authentication) {
-        return userService.getUserFromAuthentication(authentication).getId();
+        return userService.getUserIdFromAuthentication(authentication);
     }
 }
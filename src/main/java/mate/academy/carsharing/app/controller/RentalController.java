@@ -10,6 +10,7 @@ import mate.academy.carsharing.app.dto.rental.RentalActualReturnDateResponseDto;
 import mate.academy.carsharing.app.dto.rental.RentalResponseDto;
 import mate.academy.carsharing.app.service.RentalService;
 import mate.academy.carsharing.app.service.UserService;
+import mate.academy.carsharing.app.service.pricing.PriceQuote;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -48,8 +49,16 @@ public class RentalController {
     @Operation(summary = "View the rental", description = "View the rental by id")
     public RentalResponseDto getRentalById(Authentication authentication,
                                            @PathVariable Long rentalId) {
-        Long userId = getUserId(authentication);
-        return rentalService.getRentalById(userId, rentalId);
+        return rentalService.getRentalById(authentication, rentalId);
+    }
+
+    @GetMapping("/{rentalId}/quote")
+    @PreAuthorize("hasAnyAuthority('ROLE_CUSTOMER', 'ROLE_MANAGER')")
+    @Operation(summary = "Quote the rental",
+            description = "Calculate the amount due for the rental as of today")
+    public PriceQuote getRentalQuote(Authentication authentication,
+                                     @PathVariable Long rentalId) {
+        return rentalService.getRentalQuote(authentication, rentalId);
     }
 
     @GetMapping("/active")
@@ -71,6 +80,6 @@ public class RentalController {
     }
 
     private Long getUserId(Authentication authentication) {
-        return userService.getUserFromAuthentication(authentication).getId();
+        return userService.getUserIdFromAuthentication(authentication);
     }
 }
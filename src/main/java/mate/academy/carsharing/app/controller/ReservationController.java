@@ -0,0 +1,61 @@
+package mate.academy.carsharing.app.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import mate.academy.carsharing.app.dto.reservation.CarAvailabilityDto;
+import mate.academy.carsharing.app.dto.reservation.CreateReservationRequestDto;
+import mate.academy.carsharing.app.dto.reservation.ReservationResponseDto;
+import mate.academy.carsharing.app.service.ReservationService;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Reservation", description = "Endpoints for booking cars ahead")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/reservations")
+@SecurityRequirement(name = "BearerAuth")
+public class ReservationController {
+    private final ReservationService reservationService;
+
+    @PostMapping
+    @PreAuthorize("hasAnyAuthority('ROLE_CUSTOMER', 'ROLE_MANAGER')")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Reserve a car", description = "Booking a car for a date range")
+    public ReservationResponseDto createReservation(
+            Authentication authentication,
+            @RequestBody @Valid CreateReservationRequestDto requestDto) {
+        return reservationService.createReservation(authentication, requestDto);
+    }
+
+    @DeleteMapping("/{reservationId}")
+    @PreAuthorize("hasAnyAuthority('ROLE_CUSTOMER', 'ROLE_MANAGER')")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Cancel the reservation", description = "Cancelling own reservation")
+    public void cancelReservation(Authentication authentication,
+                                  @PathVariable Long reservationId) {
+        reservationService.cancelReservation(authentication, reservationId);
+    }
+
+    @GetMapping("/availability")
+    @Operation(summary = "Check car availability",
+            description = "Viewing how many units of the car are free for the whole date range")
+    public CarAvailabilityDto getCarAvailability(@RequestParam Long carId,
+                                                 @RequestParam LocalDate from,
+                                                 @RequestParam LocalDate to) {
+        return reservationService.getCarAvailability(carId, from, to);
+    }
+}
@@ -78,6 +78,6 @@ public class UserController {
     }
 
     private Long getUserId(Authentication authentication) {
-        return userService.getUserFromAuthentication(authentication).getId();
+        return userService.getUserIdFromAuthentication(authentication);
     }
 }
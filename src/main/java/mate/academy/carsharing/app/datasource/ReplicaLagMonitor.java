@@ -0,0 +1,47 @@
+package mate.academy.carsharing.app.datasource;
+
+import io.micrometer.core.instrument.Metrics;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long maxLagSeconds;
+    private volatile boolean replicaAvailable;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagSeconds) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.maxLagSeconds = maxLagSeconds;
+        Metrics.gauge("datasource.replica.available", this,
+                monitor -> monitor.isReplicaAvailable() ? 1 : 0);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        Long lag;
+        try {
+            lag = jdbcTemplate.query(REPLICA_STATUS_QUERY,
+                    rs -> rs.next() ? rs.getObject(LAG_COLUMN, Long.class) : null);
+        } catch (DataAccessException e) {
+            log.warn("Can't read the replica status: {}", e.getMessage());
+            lag = null;
+        }
+        boolean available = lag != null && lag <= maxLagSeconds;
+        if (available != replicaAvailable) {
+            log.info("Replica lag is {} s, read-only transactions are routed to the {}",
+                    lag, available ? "replica" : "primary");
+        }
+        replicaAvailable = available;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+}
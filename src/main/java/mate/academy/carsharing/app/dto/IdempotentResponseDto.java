@@ -0,0 +1,7 @@
+package mate.academy.carsharing.app.dto;
+
+public record IdempotentResponseDto(
+        int status,
+        String contentType,
+        String body
+) {}
@@ -0,0 +1,8 @@
+package mate.academy.carsharing.app.dto;
+
+import java.io.Serializable;
+
+public record VersionedDto<T>(
+        T body,
+        String version
+) implements Serializable {}
@@ -1,5 +1,6 @@
 package mate.academy.carsharing.app.dto.car;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import mate.academy.carsharing.app.model.Car;
 
@@ -10,6 +11,6 @@ public record CarDto(
         Car.Type type,
         int inventory,
         BigDecimal dailyFee
-) {
+) implements Serializable {
 
 }
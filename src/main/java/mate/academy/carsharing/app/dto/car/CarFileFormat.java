@@ -0,0 +1,29 @@
+package mate.academy.carsharing.app.dto.car;
+
+import org.springframework.http.MediaType;
+
+public enum CarFileFormat {
+    CSV(new MediaType("text", "csv")),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    CarFileFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static CarFileFormat fromMediaType(MediaType mediaType) {
+        for (CarFileFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported car file format " + mediaType);
+    }
+}
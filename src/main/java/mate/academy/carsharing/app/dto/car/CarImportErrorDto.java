@@ -0,0 +1,7 @@
+package mate.academy.carsharing.app.dto.car;
+
+public record CarImportErrorDto(
+        long line,
+        String message
+) {
+}
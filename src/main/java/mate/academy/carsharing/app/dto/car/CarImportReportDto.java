@@ -0,0 +1,10 @@
+package mate.academy.carsharing.app.dto.car;
+
+import java.util.List;
+
+public record CarImportReportDto(
+        long imported,
+        long rejected,
+        List<CarImportErrorDto> errors
+) {
+}
@@ -0,0 +1,25 @@
+package mate.academy.carsharing.app.dto.car;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import mate.academy.carsharing.app.model.Car;
+
+public record CarSearchParametersDto(
+        Car.Type type,
+        String brand,
+        @PositiveOrZero
+        BigDecimal minDailyFee,
+        @PositiveOrZero
+        BigDecimal maxDailyFee,
+        Boolean available,
+        LocalDate from,
+        LocalDate to,
+        Long after,
+        @Min(1)
+        @Max(100)
+        Integer size
+) {
+}
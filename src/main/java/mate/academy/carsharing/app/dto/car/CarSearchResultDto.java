@@ -0,0 +1,9 @@
+package mate.academy.carsharing.app.dto.car;
+
+import java.util.List;
+
+public record CarSearchResultDto(
+        List<CarDto> cars,
+        Long next
+) {
+}
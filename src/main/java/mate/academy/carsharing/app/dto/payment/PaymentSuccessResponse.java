@@ -0,0 +1,7 @@
+package mate.academy.carsharing.app.dto.payment;
+
+public record PaymentSuccessResponse(
+        String sessionId,
+        String status,
+        String message
+) {}
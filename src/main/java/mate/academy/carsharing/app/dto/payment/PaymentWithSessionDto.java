@@ -1,6 +1,7 @@
 package mate.academy.carsharing.app.dto.payment;
 
 import java.math.BigDecimal;
+import mate.academy.carsharing.app.model.Payment;
 
 public record PaymentWithSessionDto(
         Long id,
@@ -9,4 +10,9 @@ public record PaymentWithSessionDto(
         Long rentalId,
         BigDecimal amount,
         String sessionId
-) {}
+) {
+    public PaymentWithSessionDto(Long id, Payment.Status status, Payment.Type type,
+                                 Long rentalId, BigDecimal amount, String sessionId) {
+        this(id, status.name(), type.name(), rentalId, amount, sessionId);
+    }
+}
@@ -0,0 +1,11 @@
+package mate.academy.carsharing.app.dto.reservation;
+
+import java.time.LocalDate;
+
+public record CarAvailabilityDto(
+        Long carId,
+        LocalDate from,
+        LocalDate to,
+        int availableUnits
+) {
+}
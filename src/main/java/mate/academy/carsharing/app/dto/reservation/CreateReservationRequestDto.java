@@ -0,0 +1,19 @@
+package mate.academy.carsharing.app.dto.reservation;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.LocalDate;
+
+public record CreateReservationRequestDto(
+        @NotNull
+        @Positive
+        Long carId,
+        @NotNull
+        @FutureOrPresent
+        LocalDate startDate,
+        @NotNull
+        @FutureOrPresent
+        LocalDate endDate
+) {
+}
@@ -0,0 +1,13 @@
+package mate.academy.carsharing.app.dto.reservation;
+
+import java.time.LocalDate;
+import mate.academy.carsharing.app.model.Reservation;
+
+public record ReservationResponseDto(
+        Long id,
+        Long carId,
+        LocalDate startDate,
+        LocalDate endDate,
+        Reservation.Status status
+) {
+}
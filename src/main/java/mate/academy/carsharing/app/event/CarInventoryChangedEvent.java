@@ -0,0 +1,6 @@
+package mate.academy.carsharing.app.event;
+
+public record CarInventoryChangedEvent(
+        Long carId
+) {
+}
@@ -3,6 +3,7 @@ package mate.academy.carsharing.app.exception;
 import java.time.LocalDateTime;
 import java.util.List;
 import mate.academy.carsharing.app.dto.ErrorResponseDto;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -71,6 +72,30 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
+    @ExceptionHandler(InvalidSignatureException.class)
+    public ResponseEntity<ErrorResponseDto>
+                    handleInvalidSignatureException(InvalidSignatureException ex) {
+        ErrorResponseDto response = new ErrorResponseDto(
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                List.of(ex.getMessage()),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<ErrorResponseDto>
+                    handleInvalidDateRangeException(InvalidDateRangeException ex) {
+        ErrorResponseDto response = new ErrorResponseDto(
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                List.of(ex.getMessage()),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(InsufficientQuantityException.class)
     public ResponseEntity<ErrorResponseDto>
                     handleInsufficientQuantityException(InsufficientQuantityException ex) {
@@ -119,6 +144,18 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(response, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDto>
+                    handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        ErrorResponseDto response = new ErrorResponseDto(
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                List.of("The resource was modified concurrently, reload it and try again"),
+                LocalDateTime.now()
+        );
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MessageDispatchException.class)
     public ResponseEntity<ErrorResponseDto>
                     handleMessageDispatchException(MessageDispatchException ex) {
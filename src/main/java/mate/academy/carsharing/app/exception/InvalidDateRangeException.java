@@ -0,0 +1,7 @@
+package mate.academy.carsharing.app.exception;
+
+public class InvalidDateRangeException extends RuntimeException {
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package mate.academy.carsharing.app.exception;
+
+public class InvalidSignatureException extends RuntimeException {
+    public InvalidSignatureException(String message) {
+        super(message);
+    }
+
+    public InvalidSignatureException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,98 @@
+package mate.academy.carsharing.app.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import mate.academy.carsharing.app.dto.IdempotentResponseDto;
+import mate.academy.carsharing.app.service.IdempotencyService;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final Set<String> IDEMPOTENT_ENDPOINTS = Set.of(
+            "POST /rentals",
+            "POST /payments/create"
+    );
+
+    private final IdempotencyService idempotencyService;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !StringUtils.hasText(request.getHeader(IDEMPOTENCY_KEY_HEADER))
+                || !IDEMPOTENT_ENDPOINTS.contains(request.getMethod() + " " + path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = authentication.getName() + ":" + request.getMethod() + ":"
+                + request.getRequestURI() + ":" + request.getHeader(IDEMPOTENCY_KEY_HEADER);
+
+        Optional<IdempotentResponseDto> stored = idempotencyService.find(key);
+        if (stored.isEmpty() && !idempotencyService.claim(key)) {
+            stored = idempotencyService.find(key);
+            if (stored.isEmpty()) {
+                response.sendError(HttpStatus.CONFLICT.value(),
+                        "A request with this Idempotency-Key is still being processed");
+                return;
+            }
+        }
+        if (stored.isPresent()) {
+            replay(response, stored.get());
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper =
+                new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            idempotencyService.release(key);
+            throw e;
+        }
+        if (HttpStatus.valueOf(responseWrapper.getStatus()).is2xxSuccessful()) {
+            idempotencyService.complete(key, new IdempotentResponseDto(
+                    responseWrapper.getStatus(),
+                    responseWrapper.getContentType(),
+                    new String(responseWrapper.getContentAsByteArray(),
+                            StandardCharsets.UTF_8)));
+        } else {
+            idempotencyService.release(key);
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void replay(HttpServletResponse response, IdempotentResponseDto stored)
+            throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, Boolean.TRUE.toString());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(stored.body());
+    }
+}
@@ -5,13 +5,18 @@ import mate.academy.carsharing.app.dto.car.CarDto;
 import mate.academy.carsharing.app.dto.car.CreateCarDto;
 import mate.academy.carsharing.app.model.Car;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 @Mapper(config = MapperConfig.class)
 public interface CarMapper {
     CarDto toDto(Car car);
 
+    @Mapping(target = "fleetSize", source = "inventory")
+    @Mapping(target = "version", ignore = true)
     Car toModel(CreateCarDto carDto);
 
+    @Mapping(target = "fleetSize", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateCar(@MappingTarget Car car, CreateCarDto carDto);
 }
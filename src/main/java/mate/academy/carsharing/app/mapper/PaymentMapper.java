@@ -24,5 +24,6 @@ public interface PaymentMapper {
     @Mapping(target = "sessionUrl", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "amount", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
     Payment toModel(PaymentRequestDto dto);
 }
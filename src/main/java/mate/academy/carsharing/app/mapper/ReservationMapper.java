@@ -0,0 +1,13 @@
+package mate.academy.carsharing.app.mapper;
+
+import mate.academy.carsharing.app.config.MapperConfig;
+import mate.academy.carsharing.app.dto.reservation.ReservationResponseDto;
+import mate.academy.carsharing.app.model.Reservation;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperConfig.class)
+public interface ReservationMapper {
+    @Mapping(target = "carId", source = "car.id")
+    ReservationResponseDto toResponseDto(Reservation reservation);
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import lombok.Getter;
 import lombok.Setter;
@@ -18,7 +19,8 @@ import org.hibernate.annotations.SQLRestriction;
 @Setter
 @Entity
 @Table(name = "cars")
-@SQLDelete(sql = "UPDATE cars SET is_deleted = true WHERE id=?")
+@SQLDelete(sql = "UPDATE cars SET is_deleted = true, version = version + 1 "
+        + "WHERE id=? AND version=?")
 @SQLRestriction("is_deleted=false")
 public class Car {
     @Id
@@ -33,10 +35,15 @@ public class Car {
     private Type type;
     @Column(nullable = false)
     private int inventory;
+    @Column(name = "fleet_size", nullable = false)
+    private int fleetSize;
     @Column(name = "daily_fee", nullable = false)
     private BigDecimal dailyFee;
     @Column(nullable = false)
     private boolean isDeleted = false;
+    @Version
+    @Column(nullable = false)
+    private Long version;
 
     public enum Type {
         SEDAN,
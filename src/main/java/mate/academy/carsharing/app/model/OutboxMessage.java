@@ -0,0 +1,44 @@
+package mate.academy.carsharing.app.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "outbox")
+public class OutboxMessage {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "outbox_id")
+    @TableGenerator(name = "outbox_id", table = "id_generators", pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = "outbox", allocationSize = 50)
+    private Long id;
+    @Column(name = "chat_id", nullable = false, length = 512)
+    private String chatId;
+    @Column(nullable = false, length = 4096)
+    private String text;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+    @Column(nullable = false)
+    private int attempts;
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    public enum Status {
+        PENDING,
+        FAILED
+    }
+}
@@ -0,0 +1,44 @@
+package mate.academy.carsharing.app.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "pricing_rules")
+public class PricingRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private String name;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Charge charge;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "car_type")
+    private Car.Type carType;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week")
+    private DayOfWeek dayOfWeek;
+    @Column(name = "min_days", nullable = false)
+    private int minDays = 1;
+    @Column(nullable = false)
+    private BigDecimal multiplier;
+
+    public enum Charge {
+        RENTAL,
+        FINE
+    }
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDate;
 import lombok.Getter;
 import lombok.Setter;
@@ -19,7 +20,9 @@ import lombok.Setter;
 @Table(name = "rentals")
 public class Rental {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "rentals_id")
+    @TableGenerator(name = "rentals_id", table = "id_generators", pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = "rentals", allocationSize = 50)
     private Long id;
     @Column(nullable = false)
     private LocalDate rentalDate;
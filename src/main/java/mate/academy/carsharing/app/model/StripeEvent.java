@@ -0,0 +1,25 @@
+package mate.academy.carsharing.app.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "stripe_events")
+public class StripeEvent {
+    @Id
+    @Column(name = "event_id")
+    private String eventId;
+    @Column(name = "session_id", nullable = false)
+    private String sessionId;
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -1,7 +1,30 @@
 package mate.academy.carsharing.app.repository;
 
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
 import mate.academy.carsharing.app.model.Car;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CarRepository extends JpaRepository<Car, Long> {
+public interface CarRepository extends JpaRepository<Car, Long>, JpaSpecificationExecutor<Car> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Car c WHERE c.id = :id")
+    Optional<Car> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Car c SET c.inventory = c.inventory - 1, "
+            + "c.version = c.version + 1 "
+            + "WHERE c.id = :id AND c.inventory > 0 AND c.isDeleted = false")
+    int decrementInventory(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Car c SET c.inventory = c.inventory + 1, "
+            + "c.version = c.version + 1 "
+            + "WHERE c.id = :id AND c.isDeleted = false")
+    int incrementInventory(@Param("id") Long id);
 }
@@ -0,0 +1,55 @@
+package mate.academy.carsharing.app.repository;
+
+import java.math.BigDecimal;
+import mate.academy.carsharing.app.dto.car.CarSearchParametersDto;
+import mate.academy.carsharing.app.model.Car;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class CarSpecifications {
+    private CarSpecifications() {
+    }
+
+    public static Specification<Car> search(CarSearchParametersDto parameters) {
+        return search(parameters, parameters.after());
+    }
+
+    public static Specification<Car> search(CarSearchParametersDto parameters, Long after) {
+        return Specification.allOf(
+                hasType(parameters.type()),
+                hasBrand(parameters.brand()),
+                dailyFeeFrom(parameters.minDailyFee()),
+                dailyFeeTo(parameters.maxDailyFee()),
+                Boolean.TRUE.equals(parameters.available()) ? isAvailable() : null,
+                idAfter(after));
+    }
+
+    private static Specification<Car> hasType(Car.Type type) {
+        return type == null ? null : (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    private static Specification<Car> hasBrand(String brand) {
+        return brand == null || brand.isBlank()
+                ? null
+                : (root, query, cb) -> cb.equal(root.get("brand"), brand);
+    }
+
+    private static Specification<Car> dailyFeeFrom(BigDecimal minDailyFee) {
+        return minDailyFee == null
+                ? null
+                : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dailyFee"), minDailyFee);
+    }
+
+    private static Specification<Car> dailyFeeTo(BigDecimal maxDailyFee) {
+        return maxDailyFee == null
+                ? null
+                : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dailyFee"), maxDailyFee);
+    }
+
+    private static Specification<Car> isAvailable() {
+        return (root, query, cb) -> cb.greaterThan(root.get("inventory"), 0);
+    }
+
+    private static Specification<Car> idAfter(Long after) {
+        return after == null ? null : (root, query, cb) -> cb.greaterThan(root.get("id"), after);
+    }
+}
@@ -0,0 +1,49 @@
+package mate.academy.carsharing.app.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import mate.academy.carsharing.app.model.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    Optional<IdempotencyKey> findByKeyHashAndStatusAndExpiresAtAfter(
+            String keyHash, IdempotencyKey.Status status, LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO idempotency_keys (key_hash, status, expires_at) "
+            + "VALUES (:keyHash, 'IN_PROGRESS', :expiresAt)", nativeQuery = true)
+    int insert(@Param("keyHash") String keyHash, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdempotencyKey k SET k.status = 'COMPLETED', "
+            + "k.responseStatus = :responseStatus, k.contentType = :contentType, "
+            + "k.responseBody = :responseBody, k.expiresAt = :expiresAt "
+            + "WHERE k.keyHash = :keyHash")
+    int complete(@Param("keyHash") String keyHash,
+                 @Param("responseStatus") int responseStatus,
+                 @Param("contentType") String contentType,
+                 @Param("responseBody") String responseBody,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyKey k WHERE k.keyHash = :keyHash")
+    int deleteByKey(@Param("keyHash") String keyHash);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyKey k WHERE k.keyHash = :keyHash AND k.expiresAt <= :now")
+    int deleteExpired(@Param("keyHash") String keyHash, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,42 @@
+package mate.academy.carsharing.app.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import mate.academy.carsharing.app.model.OutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    @Query(value = "SELECT * FROM outbox WHERE status = 'PENDING' AND available_at <= :now "
+            + "ORDER BY available_at, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxMessage> findAvailableForUpdate(@Param("now") LocalDateTime now,
+                                               @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.attempts = o.attempts + 1, "
+            + "o.availableAt = :leaseUntil WHERE o.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.availableAt = :leaseUntil "
+            + "WHERE o.id IN :ids AND o.status = :status")
+    int extendLease(@Param("ids") Collection<Long> ids,
+                    @Param("leaseUntil") LocalDateTime leaseUntil,
+                    @Param("status") OutboxMessage.Status status);
+
+    @Modifying
+    @Query("UPDATE OutboxMessage o SET o.status = :status "
+            + "WHERE o.id IN :ids AND o.attempts >= :maxAttempts")
+    int updateStatusWhenAttemptsExhausted(@Param("ids") Collection<Long> ids,
+                                          @Param("maxAttempts") int maxAttempts,
+                                          @Param("status") OutboxMessage.Status status);
+
+    @Modifying
+    @Query("DELETE FROM OutboxMessage o WHERE o.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,12 +1,20 @@
 package mate.academy.carsharing.app.repository;
 
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import mate.academy.carsharing.app.dto.payment.PaymentWithSessionDto;
 import mate.academy.carsharing.app.model.Payment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,8 +23,54 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     @EntityGraph(attributePaths = {"rental", "rental.user"})
     Page<Payment> findAllByRental_User_Id(Long userId, Pageable pageable);
 
+    @Query(value = "SELECT new mate.academy.carsharing.app.dto.payment.PaymentWithSessionDto("
+            + "p.id, p.status, p.type, p.rental.id, p.amount, p.sessionId) FROM Payment p",
+            countQuery = "SELECT COUNT(p) FROM Payment p")
+    Page<PaymentWithSessionDto> findAllPaymentDtos(Pageable pageable);
+
+    @Query(value = "SELECT new mate.academy.carsharing.app.dto.payment.PaymentWithSessionDto("
+            + "p.id, p.status, p.type, p.rental.id, p.amount, p.sessionId) FROM Payment p "
+            + "WHERE p.rental.user.id = :userId",
+            countQuery = "SELECT COUNT(p) FROM Payment p WHERE p.rental.user.id = :userId")
+    Page<PaymentWithSessionDto> findAllPaymentDtosByUserId(@Param("userId") Long userId,
+                                                           Pageable pageable);
+
     Optional<Payment> findBySessionId(String sessionId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Payment> findWithLockBySessionId(String sessionId);
+
     List<Payment> findAllByRentalId(Long rentalId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = {"rental", "rental.user"})
+    List<Payment> findAllBySessionIdInAndStatus(Collection<String> sessionIds,
+                                                Payment.Status status);
+
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.createdAt < :createdBefore "
+            + "AND p.id > :afterId ORDER BY p.id")
+    List<Payment> findAllByStatusCreatedBeforeAfter(@Param("status") Payment.Status status,
+                                                    @Param("createdBefore")
+                                                    LocalDateTime createdBefore,
+                                                    @Param("afterId") Long afterId,
+                                                    Pageable pageable);
+
+    @Query("SELECT MIN(p.createdAt) FROM Payment p WHERE p.status = :status "
+            + "AND p.createdAt < :createdBefore")
+    Optional<LocalDateTime> findOldestCreatedAt(@Param("status") Payment.Status status,
+                                                @Param("createdBefore")
+                                                LocalDateTime createdBefore);
+
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = :status WHERE p.sessionId IN :sessionIds "
+            + "AND p.status = :currentStatus")
+    int updateStatusBySessionIds(@Param("sessionIds") Collection<String> sessionIds,
+                                 @Param("currentStatus") Payment.Status currentStatus,
+                                 @Param("status") Payment.Status status);
+
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = :status WHERE p.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") Payment.Status status);
+
 }
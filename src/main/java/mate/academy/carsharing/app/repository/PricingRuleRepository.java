@@ -0,0 +1,7 @@
+package mate.academy.carsharing.app.repository;
+
+import mate.academy.carsharing.app.model.PricingRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PricingRuleRepository extends JpaRepository<PricingRule, Long> {
+}
@@ -1,18 +1,28 @@
 package mate.academy.carsharing.app.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import mate.academy.carsharing.app.dto.rental.RentalResponseDto;
 import mate.academy.carsharing.app.model.Rental;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RentalRepository extends JpaRepository<Rental, Long> {
     List<Rental> findAllByUser_Id(Long userId);
 
     Page<Rental> findByIsActiveTrue(Pageable pageable);
 
+    @Query(value = "SELECT new mate.academy.carsharing.app.dto.rental.RentalResponseDto("
+            + "r.id, r.rentalDate, r.returnDate, r.car.id, r.isActive) "
+            + "FROM Rental r WHERE r.isActive = true",
+            countQuery = "SELECT COUNT(r) FROM Rental r WHERE r.isActive = true")
+    Page<RentalResponseDto> findActiveRentalDtos(Pageable pageable);
+
     Optional<Rental> findByIdAndUserId(Long rentalId, Long userId);
 
     Boolean existsByUserIdAndIsActiveIsTrue(Long userId);
@@ -21,4 +31,27 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
 
     List<Rental> findAllByReturnDateGreaterThanEqual(LocalDate date);
 
+    @Query("SELECT r FROM Rental r WHERE r.car.id IN :carIds AND r.isActive = true "
+            + "AND r.rentalDate <= :date")
+    List<Rental> findAllActiveByCarIdsRentedBy(@Param("carIds") Collection<Long> carIds,
+                                               @Param("date") LocalDate date);
+
+    @Query("SELECT r FROM Rental r JOIN FETCH r.car JOIN FETCH r.user "
+            + "WHERE r.isActive = true AND r.returnDate < :date "
+            + "AND (r.returnDate > :afterDate OR (r.returnDate = :afterDate AND r.id > :afterId)) "
+            + "ORDER BY r.returnDate, r.id")
+    List<Rental> findActiveOverdueAfter(@Param("date") LocalDate date,
+                                        @Param("afterDate") LocalDate afterDate,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    @Query("SELECT r FROM Rental r JOIN FETCH r.car JOIN FETCH r.user "
+            + "WHERE r.isActive = true AND r.returnDate >= :date "
+            + "AND (r.returnDate > :afterDate OR (r.returnDate = :afterDate AND r.id > :afterId)) "
+            + "ORDER BY r.returnDate, r.id")
+    List<Rental> findActiveNotOverdueAfter(@Param("date") LocalDate date,
+                                           @Param("afterDate") LocalDate afterDate,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
 }
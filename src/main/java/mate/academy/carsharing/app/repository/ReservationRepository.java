@@ -0,0 +1,26 @@
+package mate.academy.carsharing.app.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import mate.academy.carsharing.app.model.Reservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+    Optional<Reservation> findByIdAndUserId(Long id, Long userId);
+
+    @Query("SELECT r FROM Reservation r WHERE r.car.id = :carId AND r.status = :status "
+            + "AND r.startDate <= :to AND r.endDate >= :from")
+    List<Reservation> findAllOverlapping(@Param("carId") Long carId,
+                                         @Param("status") Reservation.Status status,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    List<Reservation> findAllByStatusAndEndDateGreaterThanEqual(Reservation.Status status,
+                                                                LocalDate date);
+
+    List<Reservation> findAllByCarIdAndStatusAndEndDateGreaterThanEqual(
+            Long carId, Reservation.Status status, LocalDate date);
+}
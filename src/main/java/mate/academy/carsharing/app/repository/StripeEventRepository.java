@@ -0,0 +1,32 @@
+package mate.academy.carsharing.app.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import mate.academy.carsharing.app.model.StripeEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface StripeEventRepository extends JpaRepository<StripeEvent, String> {
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO stripe_events (event_id, session_id, received_at) "
+            + "VALUES (:eventId, :sessionId, :receivedAt)", nativeQuery = true)
+    int insert(@Param("eventId") String eventId,
+               @Param("sessionId") String sessionId,
+               @Param("receivedAt") LocalDateTime receivedAt);
+
+    @Query(value = "SELECT * FROM stripe_events WHERE processed_at IS NULL "
+            + "ORDER BY received_at, event_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<StripeEvent> findUnprocessedForUpdate(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE StripeEvent e SET e.processedAt = :processedAt WHERE e.eventId IN :ids")
+    int markProcessed(@Param("ids") Collection<String> ids,
+                      @Param("processedAt") LocalDateTime processedAt);
+}
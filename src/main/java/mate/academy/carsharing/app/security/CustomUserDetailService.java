@@ -1,6 +1,7 @@
 package mate.academy.carsharing.app.security;
 
 import lombok.RequiredArgsConstructor;
+import mate.academy.carsharing.app.datasource.ReplicaRoutingDataSource;
 import mate.academy.carsharing.app.exception.EntityNotFoundException;
 import mate.academy.carsharing.app.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,7 +14,7 @@ public class CustomUserDetailService implements UserDetailsService {
     private final UserRepository userRepository;
 
     public UserDetails loadUserByUsername(String email) {
-        return userRepository.findByEmail(email)
+        return ReplicaRoutingDataSource.onPrimary(() -> userRepository.findByEmail(email))
                 .orElseThrow(() -> new EntityNotFoundException("User with email "
                         + email + " not found"));
     }
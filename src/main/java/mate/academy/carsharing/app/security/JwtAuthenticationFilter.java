@@ -5,11 +5,9 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -31,17 +29,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = getToken(request);
 
-        if (token != null && jwtUtil.isValidToken(token)
-                && SecurityContextHolder.getContext().getAuthentication() == null) {
+        JwtPrincipal principal = token == null ? null : jwtUtil.parse(token);
 
-            String username = jwtUtil.getUsername(token);
-            List<GrantedAuthority> authorities = jwtUtil.getAuthorities(token);
+        if (principal != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
-                    username,
+                    principal,
                     null,
-                    authorities
+                    principal.authorities()
             );
             authentication.setDetails(
                     new WebAuthenticationDetailsSource().buildDetails(request)
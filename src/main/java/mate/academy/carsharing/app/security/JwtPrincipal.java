@@ -0,0 +1,22 @@
+package mate.academy.carsharing.app.security;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+
+public record JwtPrincipal(
+        Long id,
+        String username,
+        List<GrantedAuthority> authorities,
+        Instant expiresAt
+) implements Principal {
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
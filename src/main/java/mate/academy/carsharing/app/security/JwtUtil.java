@@ -1,16 +1,27 @@
 package mate.academy.carsharing.app.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.crypto.SecretKey;
+import mate.academy.carsharing.app.config.CacheConfig;
+import mate.academy.carsharing.app.model.User;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -19,19 +30,35 @@ import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtil {
-    private final SecretKey secret;
+    private static final String AUTHORITIES_CLAIM = "authorities";
+    private static final String USER_ID_CLAIM = "id";
+    private static final String INVALID_TOKEN_MESSAGE = "Expired or invalid JWT token";
 
-    @Value("${jwt.expiration}")
-    private long expiration;
+    private final SecretKey secret;
+    private final JwtParser parser;
+    private final long expiration;
+    private final Cache<String, JwtPrincipal> principalCache;
 
-    public JwtUtil(@Value("${jwt.secret}") String secretString) {
+    public JwtUtil(@Value("${jwt.secret}") String secretString,
+                   @Value("${jwt.expiration}") long expiration,
+                   @Value("${jwt.cache.max-size:10000}") long cacheMaxSize,
+                   @Value("${jwt.cache.ttl-ms:300000}") long cacheTtlMillis) {
         secret = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(secret)
+                .build();
+        this.expiration = expiration;
+        principalCache = cacheMaxSize > 0
+                ? createPrincipalCache(cacheMaxSize, Duration.ofMillis(cacheTtlMillis))
+                : null;
     }
 
     public String generateToken(UserDetails userDetails) {
+        Long userId = userDetails instanceof User user ? user.getId() : null;
         return Jwts.builder()
                 .subject(userDetails.getUsername())
-                .claim("authorities", userDetails.getAuthorities().stream()
+                .claim(USER_ID_CLAIM, userId)
+                .claim(AUTHORITIES_CLAIM, userDetails.getAuthorities().stream()
                         .map(GrantedAuthority::getAuthority)
                         .collect(Collectors.toList()))
                 .issuedAt(new Date(System.currentTimeMillis()))
@@ -40,42 +67,79 @@ public class JwtUtil {
                 .compact();
     }
 
-    public boolean isValidToken(String token) {
-        try {
-            Jws<Claims> claimsJws = Jwts.parser()
-                    .verifyWith(secret)
-                    .build()
-                    .parseSignedClaims(token);
+    public JwtPrincipal parse(String token) {
+        if (principalCache == null) {
+            return verify(token);
+        }
+        String key = hash(token);
+        JwtPrincipal principal = principalCache.get(key, ignored -> verify(token));
+        if (principal.isExpired()) {
+            principalCache.invalidate(key);
+            throw new JwtException(INVALID_TOKEN_MESSAGE);
+        }
+        return principal;
+    }
 
-            return !claimsJws.getPayload().getExpiration().before(new Date());
+    private JwtPrincipal verify(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+            JwtPrincipal principal = new JwtPrincipal(
+                    claims.get(USER_ID_CLAIM, Long.class),
+                    claims.getSubject(),
+                    authorities.stream()
+                            .<GrantedAuthority>map(authority ->
+                                    new SimpleGrantedAuthority(authority.toString()))
+                            .toList(),
+                    claims.getExpiration().toInstant());
+            if (principal.isExpired()) {
+                throw new JwtException(INVALID_TOKEN_MESSAGE);
+            }
+            return principal;
         } catch (JwtException | IllegalArgumentException e) {
-            throw new JwtException("Expired or invalid JWT token");
+            throw new JwtException(INVALID_TOKEN_MESSAGE);
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(
+                    digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
         }
     }
 
-    public String getUsername(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+    private static Cache<String, JwtPrincipal> createPrincipalCache(long maxSize,
+                                                                    Duration ttl) {
+        Cache<String, JwtPrincipal> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PrincipalExpiry(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, "jwt.principals",
+                CacheConfig.standaloneCacheTags("jwt.principals"));
+        return cache;
     }
 
-    public List<GrantedAuthority> getAuthorities(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private record PrincipalExpiry(Duration ttl) implements Expiry<String, JwtPrincipal> {
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            Duration untilExpiration = Duration.between(Instant.now(), principal.expiresAt());
+            return Math.max(0, Math.min(ttl.toNanos(), untilExpiration.toNanos()));
+        }
 
-        List<String> authorities = claims.get("authorities", List.class);
-        return authorities.stream()
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
-    }
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal,
+                                      long currentTime, long currentDuration) {
+            return currentDuration;
+        }
 
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = Jwts.parser()
-                .verifyWith(secret)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claimsResolver.apply(claims);
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,31 @@
+package mate.academy.carsharing.app.security;
+
+import java.util.Optional;
+import mate.academy.carsharing.app.model.Role;
+import mate.academy.carsharing.app.model.User;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+public final class SecurityUtil {
+    private static final String MANAGER_AUTHORITY = "ROLE_" + Role.RoleName.MANAGER.name();
+
+    private SecurityUtil() {
+    }
+
+    public static boolean isManager(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(MANAGER_AUTHORITY::equals);
+    }
+
+    public static Optional<Long> getUserId(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return Optional.ofNullable(jwtPrincipal.id());
+        }
+        if (principal instanceof User user) {
+            return Optional.ofNullable(user.getId());
+        }
+        return Optional.empty();
+    }
+}
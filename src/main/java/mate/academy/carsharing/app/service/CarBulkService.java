@@ -0,0 +1,14 @@
+package mate.academy.carsharing.app.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import mate.academy.carsharing.app.dto.car.CarFileFormat;
+import mate.academy.carsharing.app.dto.car.CarImportReportDto;
+
+public interface CarBulkService {
+    CarImportReportDto importCars(InputStream inputStream, CarFileFormat format)
+            throws IOException;
+
+    void exportCars(OutputStream outputStream, CarFileFormat format) throws IOException;
+}
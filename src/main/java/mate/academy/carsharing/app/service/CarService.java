@@ -1,6 +1,9 @@
 package mate.academy.carsharing.app.service;
 
+import mate.academy.carsharing.app.dto.VersionedDto;
 import mate.academy.carsharing.app.dto.car.CarDto;
+import mate.academy.carsharing.app.dto.car.CarSearchParametersDto;
+import mate.academy.carsharing.app.dto.car.CarSearchResultDto;
 import mate.academy.carsharing.app.dto.car.CreateCarDto;
 import mate.academy.carsharing.app.dto.car.UpdateCarInventoryDto;
 import org.springframework.data.domain.Page;
@@ -9,9 +12,11 @@ import org.springframework.data.domain.Pageable;
 public interface CarService {
     CarDto addCar(CreateCarDto createCarDto);
 
-    Page<CarDto> getAllCars(Pageable pageable);
+    VersionedDto<Page<CarDto>> getAllCars(Pageable pageable);
 
-    CarDto findCarById(Long id);
+    CarSearchResultDto searchCars(CarSearchParametersDto parameters);
+
+    VersionedDto<CarDto> findCarById(Long id);
 
     CarDto updateCarById(CreateCarDto carDto, Long id);
 
@@ -0,0 +1,14 @@
+package mate.academy.carsharing.app.service;
+
+import java.util.Optional;
+import mate.academy.carsharing.app.dto.IdempotentResponseDto;
+
+public interface IdempotencyService {
+    Optional<IdempotentResponseDto> find(String key);
+
+    boolean claim(String key);
+
+    void complete(String key, IdempotentResponseDto response);
+
+    void release(String key);
+}
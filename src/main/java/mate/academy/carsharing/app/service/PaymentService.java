@@ -4,7 +4,6 @@ import mate.academy.carsharing.app.dto.payment.PaymentDto;
 import mate.academy.carsharing.app.dto.payment.PaymentRequestDto;
 import mate.academy.carsharing.app.dto.payment.PaymentResponseDto;
 import mate.academy.carsharing.app.dto.payment.PaymentWithSessionDto;
-import mate.academy.carsharing.app.exception.MessageDispatchException;
 import mate.academy.carsharing.app.exception.PaymentException;
 import mate.academy.carsharing.app.model.Payment;
 import org.springframework.data.domain.Page;
@@ -19,7 +18,7 @@ public interface PaymentService {
     Page<PaymentWithSessionDto> getAllPayments(Authentication authentication,
                                                Pageable pageable, String sessionId);
 
-    void paymentSuccess(String sessionId) throws MessageDispatchException;
+    Payment.Status paymentSuccess(String sessionId);
 
     boolean paymentCancel(String sessionId) throws PaymentException;
 
@@ -3,6 +3,7 @@ package mate.academy.carsharing.app.service;
 import mate.academy.carsharing.app.dto.rental.CreateRentalRequestDto;
 import mate.academy.carsharing.app.dto.rental.RentalActualReturnDateResponseDto;
 import mate.academy.carsharing.app.dto.rental.RentalResponseDto;
+import mate.academy.carsharing.app.service.pricing.PriceQuote;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -11,7 +12,9 @@ public interface RentalService {
     RentalResponseDto createRental(
             Authentication authentication, CreateRentalRequestDto requestDto);
 
-    RentalResponseDto getRentalById(Long userId, Long rentalId);
+    RentalResponseDto getRentalById(Authentication authentication, Long rentalId);
+
+    PriceQuote getRentalQuote(Authentication authentication, Long rentalId);
 
     Page<RentalResponseDto> findAllActiveRentals(Pageable pageable);
 
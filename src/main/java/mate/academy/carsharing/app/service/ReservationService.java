@@ -0,0 +1,19 @@
+package mate.academy.carsharing.app.service;
+
+import java.time.LocalDate;
+import mate.academy.carsharing.app.dto.reservation.CarAvailabilityDto;
+import mate.academy.carsharing.app.dto.reservation.CreateReservationRequestDto;
+import mate.academy.carsharing.app.dto.reservation.ReservationResponseDto;
+import mate.academy.carsharing.app.model.Car;
+import org.springframework.security.core.Authentication;
+
+public interface ReservationService {
+    ReservationResponseDto createReservation(Authentication authentication,
+                                             CreateReservationRequestDto requestDto);
+
+    void cancelReservation(Authentication authentication, Long reservationId);
+
+    CarAvailabilityDto getCarAvailability(Long carId, LocalDate from, LocalDate to);
+
+    void claimForRental(Car car, Long userId, LocalDate from, LocalDate to);
+}
@@ -9,5 +9,7 @@ public interface StripePaymentService {
 
     Session createSession(SessionCreateParams params);
 
+    Session retrieveSession(String sessionId);
+
     boolean isPaymentSessionPaid(String sessionId);
 }
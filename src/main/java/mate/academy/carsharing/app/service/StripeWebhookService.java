@@ -0,0 +1,7 @@
+package mate.academy.carsharing.app.service;
+
+public interface StripeWebhookService {
+    void handleEvent(String payload, String signature);
+
+    int processPendingEvents(int limit);
+}
@@ -0,0 +1,215 @@
+package mate.academy.carsharing.app.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import mate.academy.carsharing.app.config.CacheConfig;
+import mate.academy.carsharing.app.dto.car.CarDto;
+import mate.academy.carsharing.app.dto.car.CarFileFormat;
+import mate.academy.carsharing.app.dto.car.CarImportErrorDto;
+import mate.academy.carsharing.app.dto.car.CarImportReportDto;
+import mate.academy.carsharing.app.dto.car.CreateCarDto;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.service.CarBulkService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class CarBulkServiceImpl implements CarBulkService {
+    private static final String INSERT_CAR = "INSERT INTO cars "
+            + "(brand, model, type, inventory, fleet_size, daily_fee, is_deleted) "
+            + "VALUES (?, ?, ?, ?, ?, ?, false)";
+    private static final String SELECT_CARS_AFTER_ID = "SELECT id, model, brand, type, "
+            + "inventory, daily_fee FROM cars WHERE is_deleted = false AND id > ? "
+            + "ORDER BY id LIMIT ?";
+    private static final RowMapper<CarDto> CAR_ROW_MAPPER = (rs, rowNum) -> new CarDto(
+            rs.getLong("id"),
+            rs.getString("model"),
+            rs.getString("brand"),
+            Car.Type.valueOf(rs.getString("type")),
+            rs.getInt("inventory"),
+            rs.getBigDecimal("daily_fee"));
+    private static final CsvSchema EXPORT_SCHEMA = CsvSchema.builder()
+            .addColumn("id")
+            .addColumn("brand")
+            .addColumn("model")
+            .addColumn("type")
+            .addColumn("inventory")
+            .addColumn("dailyFee")
+            .setUseHeader(true)
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final int batchSize;
+    private final int exportChunkSize;
+    private final int maxReportedErrors;
+
+    public CarBulkServiceImpl(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              Validator validator,
+                              @Value("${car.bulk.batch-size:500}") int batchSize,
+                              @Value("${car.bulk.export-chunk-size:1000}") int exportChunkSize,
+                              @Value("${car.bulk.max-reported-errors:1000}")
+                              int maxReportedErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.exportChunkSize = exportChunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CAR_PAGES, allEntries = true)
+    public CarImportReportDto importCars(InputStream inputStream, CarFileFormat format)
+            throws IOException {
+        ImportReport report = new ImportReport(maxReportedErrors);
+        List<CreateCarDto> batch = new ArrayList<>(batchSize);
+        try (MappingIterator<CreateCarDto> rows = openReader(inputStream, format)) {
+            boolean readable = true;
+            while (readable) {
+                long line = rows.getParser().currentLocation().getLineNr();
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    line = rows.getParser().currentLocation().getLineNr();
+                    CreateCarDto car = rows.nextValue();
+                    String violations = validate(car);
+                    if (violations.isEmpty()) {
+                        batch.add(car);
+                    } else {
+                        report.reject(line, violations);
+                    }
+                } catch (DatabindException e) {
+                    report.reject(line, e.getOriginalMessage());
+                } catch (StreamReadException e) {
+                    report.reject(line, e.getOriginalMessage());
+                    readable = false;
+                }
+                if (batch.size() == batchSize) {
+                    report.imported(insert(batch));
+                    batch.clear();
+                }
+            }
+        }
+        report.imported(insert(batch));
+        return report.toDto();
+    }
+
+    @Override
+    public void exportCars(OutputStream outputStream, CarFileFormat format) throws IOException {
+        try (SequenceWriter writer = openWriter(outputStream, format)) {
+            long afterId = 0;
+            List<CarDto> chunk;
+            do {
+                chunk = jdbcTemplate.query(SELECT_CARS_AFTER_ID, CAR_ROW_MAPPER,
+                        afterId, exportChunkSize);
+                writer.writeAll(chunk);
+                writer.flush();
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).id();
+                }
+            } while (chunk.size() == exportChunkSize);
+        }
+    }
+
+    private MappingIterator<CreateCarDto> openReader(InputStream inputStream,
+                                                     CarFileFormat format) throws IOException {
+        if (format == CarFileFormat.CSV) {
+            return csvMapper.readerFor(CreateCarDto.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(inputStream);
+        }
+        return objectMapper.readerFor(CreateCarDto.class).readValues(inputStream);
+    }
+
+    private SequenceWriter openWriter(OutputStream outputStream, CarFileFormat format)
+            throws IOException {
+        if (format == CarFileFormat.CSV) {
+            return csvMapper.writer(EXPORT_SCHEMA)
+                    .with(JsonGenerator.Feature.IGNORE_UNKNOWN)
+                    .writeValues(outputStream);
+        }
+        return objectMapper.writer()
+                .withRootValueSeparator(System.lineSeparator())
+                .writeValues(outputStream);
+    }
+
+    private String validate(CreateCarDto car) {
+        Set<ConstraintViolation<CreateCarDto>> violations = validator.validate(car);
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private int insert(List<CreateCarDto> cars) {
+        if (cars.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                INSERT_CAR, cars, cars.size(), (statement, car) -> {
+                    statement.setString(1, car.brand());
+                    statement.setString(2, car.model());
+                    statement.setString(3, car.type().name());
+                    statement.setInt(4, car.inventory());
+                    statement.setInt(5, car.inventory());
+                    statement.setBigDecimal(6, car.dailyFee());
+                }));
+        return cars.size();
+    }
+
+    private static final class ImportReport {
+        private final int maxReportedErrors;
+        private final List<CarImportErrorDto> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+
+        private ImportReport(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void imported(int count) {
+            imported += count;
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new CarImportErrorDto(line, message));
+            }
+        }
+
+        private CarImportReportDto toDto() {
+            return new CarImportReportDto(imported, rejected, errors);
+        }
+    }
+}
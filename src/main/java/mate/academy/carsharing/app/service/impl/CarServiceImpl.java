@@ -1,27 +1,65 @@
 package mate.academy.carsharing.app.service.impl;
 
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import mate.academy.carsharing.app.config.CacheConfig;
+import mate.academy.carsharing.app.config.MetricsConfig;
+import mate.academy.carsharing.app.datasource.ReplicaRoutingDataSource;
+import mate.academy.carsharing.app.dto.VersionedDto;
 import mate.academy.carsharing.app.dto.car.CarDto;
+import mate.academy.carsharing.app.dto.car.CarSearchParametersDto;
+import mate.academy.carsharing.app.dto.car.CarSearchResultDto;
 import mate.academy.carsharing.app.dto.car.CreateCarDto;
 import mate.academy.carsharing.app.dto.car.UpdateCarInventoryDto;
+import mate.academy.carsharing.app.event.CarInventoryChangedEvent;
+import mate.academy.carsharing.app.event.CarPriceChangedEvent;
 import mate.academy.carsharing.app.exception.EntityNotFoundException;
+import mate.academy.carsharing.app.exception.InvalidDateRangeException;
 import mate.academy.carsharing.app.mapper.CarMapper;
 import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Rental;
 import mate.academy.carsharing.app.repository.CarRepository;
+import mate.academy.carsharing.app.repository.CarSpecifications;
+import mate.academy.carsharing.app.repository.RentalRepository;
 import mate.academy.carsharing.app.service.CarService;
+import mate.academy.carsharing.app.service.reservation.ReservationCalendar;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
 @Transactional
 @RequiredArgsConstructor
 public class CarServiceImpl implements CarService {
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+
     private final CarRepository carRepository;
     private final CarMapper carMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationCalendar reservationCalendar;
+    private final RentalRepository rentalRepository;
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.CAR_PAGES, allEntries = true)
     public CarDto addCar(CreateCarDto createCarDto) {
         Car car = carMapper.toModel(createCarDto);
         Car saved = carRepository.save(car);
@@ -29,36 +67,126 @@ public class CarServiceImpl implements CarService {
     }
 
     @Override
-    public Page<CarDto> getAllCars(Pageable pageable) {
-        return carRepository.findAll(pageable).map(carMapper::toDto);
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CAR_PAGES,
+            key = "#pageable.pageSize + ':' + #pageable.sort",
+            condition = "#pageable.paged and #pageable.pageNumber == 0")
+    public VersionedDto<Page<CarDto>> getAllCars(Pageable pageable) {
+        Page<Car> cars = ReplicaRoutingDataSource.onPrimary(() -> carRepository.findAll(pageable));
+        return new VersionedDto<>(cars.map(carMapper::toDto), pageVersion(cars));
     }
 
     @Override
-    public CarDto findCarById(Long id) {
-        Car car = getCarFromDB(id);
-        return carMapper.toDto(car);
+    @Transactional(readOnly = true)
+    public CarSearchResultDto searchCars(CarSearchParametersDto parameters) {
+        int size = parameters.size() == null ? DEFAULT_SEARCH_SIZE : parameters.size();
+        LocalDate from = parameters.from();
+        LocalDate to = parameters.to() == null ? from : parameters.to();
+        if (from != null && to.isBefore(from)) {
+            throw new InvalidDateRangeException("The end date " + to
+                    + " is before the start date " + from);
+        }
+
+        List<CarDto> cars = new ArrayList<>(size);
+        Long after = parameters.after();
+        List<Car> chunk;
+        do {
+            chunk = carRepository.findBy(CarSpecifications.search(parameters, after),
+                    query -> query.sortBy(Sort.by(Sort.Direction.ASC, "id"))
+                            .limit(size)
+                            .all());
+            Map<Long, List<Rental>> rentals = from == null ? Map.of()
+                    : findActiveRentalsByCarId(chunk, to);
+            for (Car car : chunk) {
+                if (cars.size() == size) {
+                    break;
+                }
+                after = car.getId();
+                if (from == null || reservationCalendar.getAvailableUnits(car.getId(),
+                        car.getFleetSize(), rentals.getOrDefault(car.getId(), List.of()),
+                        from, to) > 0) {
+                    cars.add(carMapper.toDto(car));
+                }
+            }
+        } while (cars.size() < size && chunk.size() == size);
+        Long next = cars.size() == size ? after : null;
+        return new CarSearchResultDto(cars, next);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CAR_BY_ID, key = "#id")
+    public VersionedDto<CarDto> findCarById(Long id) {
+        Car car = ReplicaRoutingDataSource.onPrimary(() -> getCarFromDB(id));
+        return new VersionedDto<>(carMapper.toDto(car), String.valueOf(car.getVersion()));
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CAR_BY_ID, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CAR_PAGES, allEntries = true)
+    })
     public CarDto updateCarById(CreateCarDto carDto, Long id) {
         Car car = getCarFromDB(id);
+        BigDecimal dailyFee = car.getDailyFee();
+        int inventory = car.getInventory();
         carMapper.updateCar(car, carDto);
+        car.setFleetSize(car.getFleetSize() + car.getInventory() - inventory);
+        if (dailyFee.compareTo(car.getDailyFee()) != 0) {
+            eventPublisher.publishEvent(new CarPriceChangedEvent(id));
+        }
         return carMapper.toDto(carRepository.save(car));
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CAR_BY_ID, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CAR_PAGES, allEntries = true)
+    })
     public CarDto updateCarInventory(UpdateCarInventoryDto carDto, Long id) {
         Car car = getCarFromDB(id);
+        car.setFleetSize(car.getFleetSize() + carDto.inventory() - car.getInventory());
         car.setInventory(carDto.inventory());
         return carMapper.toDto(carRepository.save(car));
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CAR_BY_ID, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CAR_PAGES, allEntries = true)
+    })
     public void deleteCarById(Long id) {
         Car car = getCarFromDB(id);
         carRepository.deleteById(id);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CAR_BY_ID, key = "#event.carId()"),
+            @CacheEvict(cacheNames = CacheConfig.CAR_PAGES, allEntries = true)
+    })
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCarInventoryChanged(CarInventoryChangedEvent event) {
+    }
+
+    private Map<Long, List<Rental>> findActiveRentalsByCarId(List<Car> cars, LocalDate to) {
+        if (cars.isEmpty()) {
+            return Map.of();
+        }
+        return rentalRepository.findAllActiveByCarIdsRentedBy(
+                        cars.stream().map(Car::getId).toList(), to)
+                .stream()
+                .collect(Collectors.groupingBy(rental -> rental.getCar().getId()));
+    }
+
+    private String pageVersion(Page<Car> cars) {
+        StringBuilder versions = new StringBuilder().append(cars.getTotalElements());
+        for (Car car : cars) {
+            versions.append(',').append(car.getId()).append(':').append(car.getVersion());
+        }
+        return DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
     private Car getCarFromDB(Long id) {
         return carRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("A car wasn’t found by id " + id));
@@ -0,0 +1,127 @@
+package mate.academy.carsharing.app.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.config.CacheConfig;
+import mate.academy.carsharing.app.datasource.ReplicaRoutingDataSource;
+import mate.academy.carsharing.app.dto.IdempotentResponseDto;
+import mate.academy.carsharing.app.model.IdempotencyKey;
+import mate.academy.carsharing.app.repository.IdempotencyKeyRepository;
+import mate.academy.carsharing.app.service.IdempotencyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+    private static final int MAX_BODY_LENGTH = 4096;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Cache<String, IdempotentResponseDto> responses;
+    private final Counter memoryHitCounter = Metrics.counter(
+            "idempotency.replayed", "source", "memory");
+    private final Counter databaseHitCounter = Metrics.counter(
+            "idempotency.replayed", "source", "database");
+
+    public IdempotencyServiceImpl(
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            @Value("${idempotency.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${idempotency.ttl-ms:86400000}") long ttlMillis,
+            @Value("${idempotency.lease-ms:60000}") long leaseMillis) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.ttl = Duration.ofMillis(ttlMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, responses, "idempotency.responses",
+                CacheConfig.standaloneCacheTags("idempotency.responses"));
+    }
+
+    @Override
+    public Optional<IdempotentResponseDto> find(String key) {
+        String keyHash = hash(key);
+        IdempotentResponseDto response = responses.getIfPresent(keyHash);
+        if (response != null) {
+            memoryHitCounter.increment();
+            return Optional.of(response);
+        }
+        Optional<IdempotentResponseDto> stored = ReplicaRoutingDataSource.onPrimary(
+                        () -> idempotencyKeyRepository.findByKeyHashAndStatusAndExpiresAtAfter(
+                                keyHash, IdempotencyKey.Status.COMPLETED, LocalDateTime.now()))
+                .map(idempotencyKey -> new IdempotentResponseDto(
+                        idempotencyKey.getResponseStatus(),
+                        idempotencyKey.getContentType(),
+                        idempotencyKey.getResponseBody()));
+        stored.ifPresent(storedResponse -> {
+            databaseHitCounter.increment();
+            responses.put(keyHash, storedResponse);
+        });
+        return stored;
+    }
+
+    @Override
+    public boolean claim(String key) {
+        String keyHash = hash(key);
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyKeyRepository.deleteExpired(keyHash, now);
+        try {
+            idempotencyKeyRepository.insert(keyHash, now.plus(lease));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponseDto response) {
+        String keyHash = hash(key);
+        if (response.body().length() > MAX_BODY_LENGTH) {
+            log.warn("Response is too large to be replayed, the idempotency key is released");
+            idempotencyKeyRepository.deleteByKey(keyHash);
+            return;
+        }
+        idempotencyKeyRepository.complete(keyHash, response.status(), response.contentType(),
+                response.body(), LocalDateTime.now().plus(ttl));
+        responses.put(keyHash, response);
+    }
+
+    @Override
+    public void release(String key) {
+        idempotencyKeyRepository.deleteByKey(hash(key));
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("{} expired idempotency keys purged", purged);
+        }
+    }
+
+    private static String hash(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package mate.academy.carsharing.app.service.impl;
+
+import com.stripe.model.checkout.Session;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.exception.MessageDispatchException;
+import mate.academy.carsharing.app.model.Payment;
+import mate.academy.carsharing.app.repository.PaymentRepository;
+import mate.academy.carsharing.app.service.StripePaymentService;
+import mate.academy.carsharing.app.service.telegram.MessageDispatchService;
+import mate.academy.carsharing.app.service.util.WorkerThreads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class PaymentReconciliationScheduler {
+    private static final String PAID_PAYMENT_STATUS = "paid";
+    private static final String EXPIRED_SESSION_STATUS = "expired";
+    private static final long FIRST_ID = 0L;
+
+    private final PaymentRepository paymentRepository;
+    private final StripePaymentService stripePaymentService;
+    private final MessageDispatchService messageDispatchService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minAge;
+    private final int chunkSize;
+    private final long maxRunNanos;
+    private final ExecutorService executor;
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter checkedCounter = Metrics.counter("payment.reconciliation.checked");
+    private final Counter paidCounter = Metrics.counter(
+            "payment.reconciliation.updated", "status", Payment.Status.PAID.name());
+    private final Counter cancelledCounter = Metrics.counter(
+            "payment.reconciliation.updated", "status", Payment.Status.CANCELLED.name());
+    private final Counter failedCounter = Metrics.counter("payment.reconciliation.failed");
+    private final Timer chunkTimer = Metrics.timer("payment.reconciliation.chunk");
+    private long resumeAfterId = FIRST_ID;
+
+    public PaymentReconciliationScheduler(
+            PaymentRepository paymentRepository,
+            StripePaymentService stripePaymentService,
+            MessageDispatchService messageDispatchService,
+            TransactionTemplate transactionTemplate,
+            @Value("${payment.reconciliation.min-age-minutes:30}") long minAgeMinutes,
+            @Value("${payment.reconciliation.chunk-size:500}") int chunkSize,
+            @Value("${payment.reconciliation.parallelism:8}") int parallelism,
+            @Value("${payment.reconciliation.max-run-seconds:60}") long maxRunSeconds,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.paymentRepository = paymentRepository;
+        this.stripePaymentService = stripePaymentService;
+        this.messageDispatchService = messageDispatchService;
+        this.transactionTemplate = transactionTemplate;
+        this.minAge = Duration.ofMinutes(minAgeMinutes);
+        this.chunkSize = chunkSize;
+        this.maxRunNanos = TimeUnit.SECONDS.toNanos(maxRunSeconds);
+        this.executor = Executors.newFixedThreadPool(parallelism,
+                WorkerThreads.factory("payment-reconciliation-", virtualThreads));
+        Gauge.builder("payment.reconciliation.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(Metrics.globalRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds.get();
+    }
+
+    @Scheduled(fixedDelayString = "${payment.reconciliation.interval-ms:600000}")
+    public void reconcile() {
+        LocalDateTime now = LocalDateTime.now();
+        long start = System.nanoTime();
+        long checked = 0;
+        long afterId = resumeAfterId;
+        lagSeconds.set(paymentRepository.findOldestCreatedAt(Payment.Status.PENDING,
+                        now.minus(minAge))
+                .map(oldest -> Duration.between(oldest, now).toSeconds())
+                .orElse(0L));
+        List<Payment> chunk;
+        do {
+            if (checked > 0 && System.nanoTime() - start >= maxRunNanos) {
+                resumeAfterId = afterId;
+                log.info("Payment reconciliation: {} pending payments checked, the rest are "
+                        + "left for the next run after payment {}", checked, afterId);
+                return;
+            }
+            chunk = paymentRepository.findAllByStatusCreatedBeforeAfter(Payment.Status.PENDING,
+                    now.minus(minAge), afterId, PageRequest.of(0, chunkSize));
+            if (!chunk.isEmpty()) {
+                List<Payment> payments = chunk;
+                chunkTimer.record(() -> reconcileChunk(payments));
+                afterId = chunk.get(chunk.size() - 1).getId();
+                checked += chunk.size();
+            }
+        } while (chunk.size() == chunkSize);
+        resumeAfterId = FIRST_ID;
+        log.info("Payment reconciliation: {} pending payments checked in {} ms", checked,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void reconcileChunk(List<Payment> chunk) {
+        List<CompletableFuture<Session>> sessions = chunk.stream()
+                .map(payment -> CompletableFuture.supplyAsync(
+                        () -> retrieveSession(payment.getSessionId()), executor))
+                .toList();
+        List<String> paid = new ArrayList<>();
+        List<String> expired = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Session session = sessions.get(i).join();
+            if (session == null) {
+                continue;
+            }
+            if (PAID_PAYMENT_STATUS.equals(session.getPaymentStatus())) {
+                paid.add(chunk.get(i).getSessionId());
+            } else if (EXPIRED_SESSION_STATUS.equals(session.getStatus())) {
+                expired.add(chunk.get(i).getSessionId());
+            }
+        }
+        checkedCounter.increment(chunk.size());
+        transactionTemplate.executeWithoutResult(status -> {
+            markPaid(paid);
+            if (!expired.isEmpty()) {
+                cancelledCounter.increment(paymentRepository.updateStatusBySessionIds(
+                        expired, Payment.Status.PENDING, Payment.Status.CANCELLED));
+            }
+        });
+    }
+
+    private Session retrieveSession(String sessionId) {
+        try {
+            return stripePaymentService.retrieveSession(sessionId);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("Can't reconcile the payment for Stripe session {}", sessionId, e);
+            return null;
+        }
+    }
+
+    private void markPaid(List<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        List<Payment> payments = paymentRepository.findAllBySessionIdInAndStatus(
+                sessionIds, Payment.Status.PENDING);
+        if (payments.isEmpty()) {
+            return;
+        }
+        paymentRepository.updateStatusByIds(
+                payments.stream().map(Payment::getId).toList(), Payment.Status.PAID);
+        paidCounter.increment(payments.size());
+        for (Payment payment : payments) {
+            try {
+                messageDispatchService.sentMessageSuccessesPayment(payment);
+            } catch (MessageDispatchException e) {
+                log.info("Can't send the notification for payment {}", payment.getId());
+            }
+        }
+    }
+}
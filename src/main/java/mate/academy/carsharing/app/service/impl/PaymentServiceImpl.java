@@ -2,29 +2,29 @@ package mate.academy.carsharing.app.service.impl;
 
 import com.stripe.model.checkout.Session;
 import com.stripe.param.checkout.SessionCreateParams;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.config.MetricsConfig;
 import mate.academy.carsharing.app.dto.payment.PaymentDto;
 import mate.academy.carsharing.app.dto.payment.PaymentRequestDto;
 import mate.academy.carsharing.app.dto.payment.PaymentResponseDto;
 import mate.academy.carsharing.app.dto.payment.PaymentWithSessionDto;
 import mate.academy.carsharing.app.exception.EntityNotFoundException;
-import mate.academy.carsharing.app.exception.MessageDispatchException;
 import mate.academy.carsharing.app.exception.PaymentException;
 import mate.academy.carsharing.app.mapper.PaymentMapper;
 import mate.academy.carsharing.app.model.Payment;
 import mate.academy.carsharing.app.model.Rental;
-import mate.academy.carsharing.app.model.Role;
-import mate.academy.carsharing.app.model.User;
 import mate.academy.carsharing.app.repository.PaymentRepository;
 import mate.academy.carsharing.app.repository.RentalRepository;
 import mate.academy.carsharing.app.repository.UserRepository;
+import mate.academy.carsharing.app.security.SecurityUtil;
 import mate.academy.carsharing.app.service.PaymentService;
 import mate.academy.carsharing.app.service.StripePaymentService;
-import mate.academy.carsharing.app.service.telegram.MessageDispatchService;
+import mate.academy.carsharing.app.service.pricing.PriceQuote;
+import mate.academy.carsharing.app.service.pricing.PricingEngine;
 import mate.academy.carsharing.app.service.util.TimeProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -36,18 +36,18 @@ import org.springframework.web.server.ResponseStatusException;
 
 @Slf4j
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
 @Transactional
 @RequiredArgsConstructor
 public class PaymentServiceImpl implements PaymentService {
-    private static final BigDecimal FINE_COEFFICIENT = new BigDecimal("2");
-
     private final RentalRepository rentalRepository;
     private final PaymentRepository paymentRepository;
     private final PaymentMapper paymentMapper;
     private final StripePaymentService stripePaymentService;
-    private final MessageDispatchService messageDispatchService;
     private final TimeProvider timeProvider;
     private final UserRepository userRepository;
+    private final PricingEngine pricingEngine;
 
     @Override
     public PaymentResponseDto createSession(Long userId, PaymentRequestDto requestDto) {
@@ -83,6 +83,7 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public PaymentDto getPaymentById(Long id) {
         Payment payment = paymentRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Can`t find payment by id " + id));
@@ -90,59 +91,36 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<PaymentWithSessionDto> getAllPayments(Authentication authentication,
                                                       Pageable pageable, String sessionId) {
-        User user = userRepository.findByEmail(authentication.getName())
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
-
-        boolean isManager = user.getRoles().stream()
-                .anyMatch(role -> role.getName() == Role.RoleName.MANAGER);
-
-        Page<Payment> payments = isManager
-                ? paymentRepository.findAll(pageable)
-                : paymentRepository.findAllByRental_User_Id(user.getId(), pageable);
-
-        return payments.map(payment -> {
-            PaymentDto dto = paymentMapper.toDto(payment);
-            return new PaymentWithSessionDto(
-                    dto.id(),
-                    dto.status().name(),
-                    dto.type().name(),
-                    dto.rentalId(),
-                    dto.amount(),
-                    payment.getSessionId()
-            );
-        });
+        return SecurityUtil.isManager(authentication)
+                ? paymentRepository.findAllPaymentDtos(pageable)
+                : paymentRepository.findAllPaymentDtosByUserId(
+                        getUserId(authentication), pageable);
     }
 
     @Override
-    public void paymentSuccess(String sessionId) throws MessageDispatchException {
+    @Transactional(readOnly = true)
+    public Payment.Status paymentSuccess(String sessionId) {
         Payment payment = paymentRepository.findBySessionId(sessionId)
                 .orElseThrow(() ->
                         new EntityNotFoundException("Can`t find session by id " + sessionId));
 
-        if (payment.getStatus() == Payment.Status.PAID) {
-            return;
-        }
-
-        if (stripePaymentService.isPaymentSessionPaid(sessionId)) {
-            payment.setStatus(Payment.Status.PAID);
-            paymentRepository.save(payment);
-            messageDispatchService.sentMessageSuccessesPayment(payment);
-        } else {
-            throw new PaymentException("Payment session is not paid");
+        if (payment.getStatus() == Payment.Status.CANCELLED) {
+            throw new PaymentException("Payment session was cancelled");
         }
+        return payment.getStatus();
     }
 
     @Override
     public boolean paymentCancel(String sessionId) {
-        Payment payment = paymentRepository.findBySessionId(sessionId)
+        Payment payment = paymentRepository.findWithLockBySessionId(sessionId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Payment not found"));
 
         if (payment.getStatus() != Payment.Status.PENDING) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                    "Payment was not cancelled because it is not in PENDING status");
+            return false;
         }
 
         payment.setStatus(Payment.Status.CANCELLED);
@@ -156,32 +134,21 @@ public class PaymentServiceImpl implements PaymentService {
                 .orElseThrow(() -> new PaymentException("Payment not found"));
     }
 
-    private BigDecimal calculateAmountConsideringActiveRental(Rental rental, Payment.Type type) {
-        if (rental.getRentalDate() == null) {
-            throw new IllegalStateException("Rental date is missing");
-        }
-
-        LocalDate actualReturnDate = rental.getActualReturnDate() != null
-                ? rental.getActualReturnDate()
-                : timeProvider.now();
-
-        long days = ChronoUnit.DAYS.between(rental.getRentalDate(), actualReturnDate);
-        if (days <= 0) {
-            days = 1;
-        }
-        BigDecimal amount = rental.getCar().getDailyFee().multiply(BigDecimal.valueOf(days));
+    private Long getUserId(Authentication authentication) {
+        return SecurityUtil.getUserId(authentication).orElseGet(() -> userRepository
+                .findByEmail(authentication.getName())
+                .orElseThrow(() -> new EntityNotFoundException("User not found"))
+                .getId());
+    }
 
+    BigDecimal calculateAmountConsideringActiveRental(Rental rental, Payment.Type type) {
+        PriceQuote quote = pricingEngine.quote(rental, timeProvider.now());
         if (type == Payment.Type.FINE) {
             if (rental.getReturnDate() == null) {
                 throw new IllegalStateException("Return date is missing for fine calculation");
             }
-            long fineDays = ChronoUnit.DAYS.between(rental.getReturnDate(), actualReturnDate);
-            if (fineDays > 0) {
-                BigDecimal fineAmount = FINE_COEFFICIENT.multiply(
-                        rental.getCar().getDailyFee().multiply(BigDecimal.valueOf(fineDays)));
-                amount = amount.add(fineAmount);
-            }
+            return quote.total();
         }
-        return amount;
+        return quote.base();
     }
 }
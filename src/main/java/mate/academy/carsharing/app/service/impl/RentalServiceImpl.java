@@ -1,10 +1,15 @@
 package mate.academy.carsharing.app.service.impl;
 
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.config.MetricsConfig;
 import mate.academy.carsharing.app.dto.rental.CreateRentalRequestDto;
 import mate.academy.carsharing.app.dto.rental.RentalActualReturnDateResponseDto;
 import mate.academy.carsharing.app.dto.rental.RentalResponseDto;
+import mate.academy.carsharing.app.event.CarInventoryChangedEvent;
+import mate.academy.carsharing.app.event.RentalClosedEvent;
 import mate.academy.carsharing.app.exception.EntityNotFoundException;
 import mate.academy.carsharing.app.exception.ForbiddenOperationException;
 import mate.academy.carsharing.app.exception.InsufficientQuantityException;
@@ -12,15 +17,20 @@ import mate.academy.carsharing.app.exception.MessageDispatchException;
 import mate.academy.carsharing.app.mapper.RentalMapper;
 import mate.academy.carsharing.app.model.Car;
 import mate.academy.carsharing.app.model.Rental;
-import mate.academy.carsharing.app.model.Role;
 import mate.academy.carsharing.app.model.User;
 import mate.academy.carsharing.app.repository.CarRepository;
 import mate.academy.carsharing.app.repository.PaymentRepository;
 import mate.academy.carsharing.app.repository.RentalRepository;
 import mate.academy.carsharing.app.repository.UserRepository;
+import mate.academy.carsharing.app.security.JwtPrincipal;
+import mate.academy.carsharing.app.security.SecurityUtil;
 import mate.academy.carsharing.app.service.RentalService;
+import mate.academy.carsharing.app.service.ReservationService;
+import mate.academy.carsharing.app.service.pricing.PriceQuote;
+import mate.academy.carsharing.app.service.pricing.PricingEngine;
 import mate.academy.carsharing.app.service.telegram.MessageDispatchService;
 import mate.academy.carsharing.app.service.util.TimeProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -31,12 +41,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
 @Transactional
 @RequiredArgsConstructor
 public class RentalServiceImpl implements RentalService {
     private static final boolean ACTIVE = true;
     private static final boolean INACTIVE = false;
-    private static final int INVALID_LIMIT = 0;
+    private static final int NOT_UPDATED = 0;
 
     private final CarRepository carRepository;
     private final RentalRepository rentalRepository;
@@ -45,6 +57,9 @@ public class RentalServiceImpl implements RentalService {
     private final TimeProvider timeProvider;
     private final UserRepository userRepository;
     private final PaymentRepository paymentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PricingEngine pricingEngine;
+    private final ReservationService reservationService;
 
     @Override
     public RentalResponseDto createRental(Authentication authentication,
@@ -53,8 +68,10 @@ public class RentalServiceImpl implements RentalService {
         User user = getUserFromAuthentication(authentication);
         checkUserHasNoActiveRental(user);
 
+        reserveCar(requestDto.carId());
         Car car = getCarFromDB(requestDto.carId());
-        checkCarInventory(car);
+        reservationService.claimForRental(
+                car, user.getId(), timeProvider.now(), requestDto.returnDate());
 
         Rental rental = buildRental(requestDto, user, car);
 
@@ -64,32 +81,22 @@ public class RentalServiceImpl implements RentalService {
     }
 
     @Override
-    public RentalResponseDto getRentalById(Long userId, Long rentalId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User"
-                        + " not found with id: " + userId));
-
-        boolean isManager = user.getRoles().stream()
-                .anyMatch(role -> role.getName() == Role.RoleName.MANAGER);
-
-        Rental rental;
-
-        if (isManager) {
-            rental = rentalRepository.findById(rentalId)
-                    .orElseThrow(() -> new EntityNotFoundException("Rental"
-                            + " not found with id: " + rentalId));
-        } else {
-            rental = rentalRepository.findByIdAndUserId(rentalId, userId)
-                    .orElseThrow(() -> new ForbiddenOperationException("Access is denied"));
-        }
+    @Transactional(readOnly = true)
+    public RentalResponseDto getRentalById(Authentication authentication, Long rentalId) {
+        return rentalMapper.toResponseDto(getAccessibleRental(authentication, rentalId));
+    }
 
-        return rentalMapper.toResponseDto(rental);
+    @Override
+    @Transactional(readOnly = true)
+    public PriceQuote getRentalQuote(Authentication authentication, Long rentalId) {
+        return pricingEngine.quote(
+                getAccessibleRental(authentication, rentalId), timeProvider.now());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<RentalResponseDto> findAllActiveRentals(Pageable pageable) {
-        return rentalRepository.findByIsActiveTrue(pageable)
-                .map(rentalMapper::toResponseDto);
+        return rentalRepository.findActiveRentalDtos(pageable);
     }
 
     @Override
@@ -111,15 +118,27 @@ public class RentalServiceImpl implements RentalService {
             log.info("Can't send the notification to user by id {}", userId);
         }
 
-        Car car = rental.getCar();
-        car.setInventory(car.getInventory() + 1);
-        carRepository.save(car);
+        carRepository.incrementInventory(rental.getCar().getId());
+        eventPublisher.publishEvent(new CarInventoryChangedEvent(rental.getCar().getId()));
+        eventPublisher.publishEvent(new RentalClosedEvent(rental.getId()));
 
         rentalRepository.save(rental);
 
         return rentalMapper.toDtoWithActualReturnDate(rental);
     }
 
+    private Rental getAccessibleRental(Authentication authentication, Long rentalId) {
+        if (SecurityUtil.isManager(authentication)) {
+            return rentalRepository.findById(rentalId)
+                    .orElseThrow(() -> new EntityNotFoundException("Rental"
+                            + " not found with id: " + rentalId));
+        }
+        Long userId = SecurityUtil.getUserId(authentication)
+                .orElseGet(() -> getUserFromAuthentication(authentication).getId());
+        return rentalRepository.findByIdAndUserId(rentalId, userId)
+                .orElseThrow(() -> new ForbiddenOperationException("Access is denied"));
+    }
+
     private Car getCarFromDB(Long id) {
         return carRepository.findById(id).orElseThrow(
                 () -> new EntityNotFoundException("Can`t find the car by id " + id)
@@ -140,6 +159,8 @@ public class RentalServiceImpl implements RentalService {
             username = u.getEmail();
         } else if (principal instanceof UserDetails ud) {
             username = ud.getUsername();
+        } else if (principal instanceof JwtPrincipal jwtPrincipal) {
+            username = jwtPrincipal.getName();
         } else {
             username = principal.toString();
         }
@@ -154,10 +175,14 @@ public class RentalServiceImpl implements RentalService {
         }
     }
 
-    private void checkCarInventory(Car car) {
-        if (car.getInventory() == INVALID_LIMIT) {
+    private void reserveCar(Long carId) {
+        if (carRepository.decrementInventory(carId) == NOT_UPDATED) {
+            if (!carRepository.existsById(carId)) {
+                throw new EntityNotFoundException("Can`t find the car by id " + carId);
+            }
             throw new InsufficientQuantityException("Insufficient quantity of cars");
         }
+        eventPublisher.publishEvent(new CarInventoryChangedEvent(carId));
     }
 
     private Rental buildRental(CreateRentalRequestDto requestDto, User user, Car car) {
@@ -166,7 +191,6 @@ public class RentalServiceImpl implements RentalService {
         rental.setReturnDate(requestDto.returnDate());
         rental.setIsActive(ACTIVE);
         rental.setUser(user);
-        car.setInventory(car.getInventory() - 1);
         rental.setCar(car);
         return rental;
     }
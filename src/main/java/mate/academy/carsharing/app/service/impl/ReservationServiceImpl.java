@@ -0,0 +1,139 @@
+package mate.academy.carsharing.app.service.impl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import mate.academy.carsharing.app.dto.reservation.CarAvailabilityDto;
+import mate.academy.carsharing.app.dto.reservation.CreateReservationRequestDto;
+import mate.academy.carsharing.app.dto.reservation.ReservationResponseDto;
+import mate.academy.carsharing.app.event.ReservationChangedEvent;
+import mate.academy.carsharing.app.exception.EntityNotFoundException;
+import mate.academy.carsharing.app.exception.ForbiddenOperationException;
+import mate.academy.carsharing.app.exception.InsufficientQuantityException;
+import mate.academy.carsharing.app.exception.InvalidDateRangeException;
+import mate.academy.carsharing.app.mapper.ReservationMapper;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Reservation;
+import mate.academy.carsharing.app.repository.CarRepository;
+import mate.academy.carsharing.app.repository.RentalRepository;
+import mate.academy.carsharing.app.repository.ReservationRepository;
+import mate.academy.carsharing.app.repository.UserRepository;
+import mate.academy.carsharing.app.service.ReservationService;
+import mate.academy.carsharing.app.service.UserService;
+import mate.academy.carsharing.app.service.reservation.IntervalTree;
+import mate.academy.carsharing.app.service.reservation.ReservationCalendar;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ReservationServiceImpl implements ReservationService {
+    private final ReservationRepository reservationRepository;
+    private final CarRepository carRepository;
+    private final RentalRepository rentalRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final ReservationMapper reservationMapper;
+    private final ReservationCalendar reservationCalendar;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public ReservationResponseDto createReservation(Authentication authentication,
+                                                    CreateReservationRequestDto requestDto) {
+        checkDateRange(requestDto.startDate(), requestDto.endDate());
+        Long userId = userService.getUserIdFromAuthentication(authentication);
+        Car car = carRepository.findByIdForUpdate(requestDto.carId()).orElseThrow(
+                () -> new EntityNotFoundException("Can`t find the car by id "
+                        + requestDto.carId()));
+
+        List<Reservation> overlapping = reservationRepository.findAllOverlapping(
+                car.getId(), Reservation.Status.ACTIVE,
+                requestDto.startDate(), requestDto.endDate());
+        if (countBusyUnits(car.getId(), overlapping, requestDto.startDate(),
+                requestDto.endDate()) >= car.getFleetSize()) {
+            throw new InsufficientQuantityException("No free cars with id " + car.getId()
+                    + " from " + requestDto.startDate() + " to " + requestDto.endDate());
+        }
+
+        Reservation reservation = new Reservation();
+        reservation.setCar(car);
+        reservation.setUser(userRepository.getReferenceById(userId));
+        reservation.setStartDate(requestDto.startDate());
+        reservation.setEndDate(requestDto.endDate());
+        reservation.setStatus(Reservation.Status.ACTIVE);
+        reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new ReservationChangedEvent(car.getId()));
+        return reservationMapper.toResponseDto(reservation);
+    }
+
+    @Override
+    public void cancelReservation(Authentication authentication, Long reservationId) {
+        Long userId = userService.getUserIdFromAuthentication(authentication);
+        Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
+                .orElseThrow(() -> new ForbiddenOperationException(
+                        "Access is denied or reservation not found"));
+        if (reservation.getStatus() != Reservation.Status.ACTIVE) {
+            throw new ForbiddenOperationException("The reservation is "
+                    + reservation.getStatus().name().toLowerCase());
+        }
+        reservation.setStatus(Reservation.Status.CANCELLED);
+        eventPublisher.publishEvent(new ReservationChangedEvent(reservation.getCar().getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CarAvailabilityDto getCarAvailability(Long carId, LocalDate from, LocalDate to) {
+        checkDateRange(from, to);
+        Car car = carRepository.findById(carId).orElseThrow(
+                () -> new EntityNotFoundException("Can`t find the car by id " + carId));
+        return new CarAvailabilityDto(carId, from, to, reservationCalendar.getAvailableUnits(
+                carId, car.getFleetSize(),
+                rentalRepository.findAllActiveByCarIdsRentedBy(List.of(carId), to), from, to));
+    }
+
+    @Override
+    public void claimForRental(Car car, Long userId, LocalDate from, LocalDate to) {
+        List<Reservation> overlapping = new ArrayList<>(reservationRepository.findAllOverlapping(
+                car.getId(), Reservation.Status.ACTIVE, from, to));
+        Reservation claimed = overlapping.stream()
+                .filter(reservation -> reservation.getUser().getId().equals(userId))
+                .min(Comparator.comparing(Reservation::getStartDate))
+                .orElse(null);
+        if (claimed != null) {
+            overlapping.remove(claimed);
+        }
+        if (!overlapping.isEmpty() && countBusyUnits(car.getId(), overlapping, from, to)
+                >= car.getFleetSize()) {
+            throw new InsufficientQuantityException("The free cars with id " + car.getId()
+                    + " are reserved between " + from + " and " + to);
+        }
+        if (claimed != null) {
+            claimed.setStatus(Reservation.Status.CONSUMED);
+            eventPublisher.publishEvent(new ReservationChangedEvent(car.getId()));
+        }
+    }
+
+    private int countBusyUnits(Long carId, List<Reservation> reservations,
+                               LocalDate from, LocalDate to) {
+        List<IntervalTree.Interval> busy = new ArrayList<>(reservationCalendar.toIntervals(
+                rentalRepository.findAllActiveByCarIdsRentedBy(List.of(carId), to)));
+        for (Reservation reservation : reservations) {
+            busy.add(new IntervalTree.Interval(reservation.getId(),
+                    reservation.getStartDate().toEpochDay(),
+                    reservation.getEndDate().toEpochDay()));
+        }
+        return IntervalTree.of(busy).maxOverlap(from.toEpochDay(), to.toEpochDay());
+    }
+
+    private void checkDateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new InvalidDateRangeException("The end date " + to
+                    + " is before the start date " + from);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package mate.academy.carsharing.app.service.impl;
+
+import mate.academy.carsharing.app.service.StripeWebhookService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StripeEventScheduler {
+    private final StripeWebhookService stripeWebhookService;
+    private final int batchSize;
+
+    public StripeEventScheduler(StripeWebhookService stripeWebhookService,
+                                @Value("${payment.webhook.batch-size:500}") int batchSize) {
+        this.stripeWebhookService = stripeWebhookService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.webhook.poll-interval-ms:1000}")
+    public void processEvents() {
+        int processed;
+        do {
+            processed = stripeWebhookService.processPendingEvents(batchSize);
+        } while (processed == batchSize);
+    }
+}
@@ -4,14 +4,19 @@ import com.stripe.Stripe;
 import com.stripe.exception.StripeException;
 import com.stripe.model.checkout.Session;
 import com.stripe.param.checkout.SessionCreateParams;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import jakarta.annotation.PostConstruct;
 import java.math.BigDecimal;
+import mate.academy.carsharing.app.config.MetricsConfig;
 import mate.academy.carsharing.app.exception.SessionFallException;
 import mate.academy.carsharing.app.service.StripePaymentService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
 public class StripePaymentServiceImpl implements StripePaymentService {
 
     private static final String PRODUCT_NAME = "Car rental payment";
@@ -78,12 +83,16 @@ public class StripePaymentServiceImpl implements StripePaymentService {
     }
 
     @Override
-    public boolean isPaymentSessionPaid(String sessionId) {
+    public Session retrieveSession(String sessionId) {
         try {
-            Session session = Session.retrieve(sessionId);
-            return PAYMENT_STATUS.equals(session.getPaymentStatus());
+            return Session.retrieve(sessionId);
         } catch (StripeException e) {
             throw new RuntimeException("Can`t retrieve Stripe session by id " + sessionId, e);
         }
     }
+
+    @Override
+    public boolean isPaymentSessionPaid(String sessionId) {
+        return PAYMENT_STATUS.equals(retrieveSession(sessionId).getPaymentStatus());
+    }
 }
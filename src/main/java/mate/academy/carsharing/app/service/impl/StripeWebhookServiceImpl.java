@@ -0,0 +1,124 @@
+package mate.academy.carsharing.app.service.impl;
+
+import com.stripe.exception.EventDataObjectDeserializationException;
+import com.stripe.exception.SignatureVerificationException;
+import com.stripe.model.Event;
+import com.stripe.model.EventDataObjectDeserializer;
+import com.stripe.model.StripeObject;
+import com.stripe.model.checkout.Session;
+import com.stripe.net.Webhook;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.exception.InvalidSignatureException;
+import mate.academy.carsharing.app.exception.MessageDispatchException;
+import mate.academy.carsharing.app.model.Payment;
+import mate.academy.carsharing.app.model.StripeEvent;
+import mate.academy.carsharing.app.repository.PaymentRepository;
+import mate.academy.carsharing.app.repository.StripeEventRepository;
+import mate.academy.carsharing.app.service.StripeWebhookService;
+import mate.academy.carsharing.app.service.telegram.MessageDispatchService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+public class StripeWebhookServiceImpl implements StripeWebhookService {
+    private static final String CHECKOUT_SESSION_COMPLETED = "checkout.session.completed";
+    private static final String PAYMENT_STATUS = "paid";
+
+    private final StripeEventRepository stripeEventRepository;
+    private final PaymentRepository paymentRepository;
+    private final MessageDispatchService messageDispatchService;
+    private final String webhookSecret;
+    private final Counter receivedCounter = Metrics.counter("payment.webhook.received");
+    private final Counter duplicateCounter = Metrics.counter("payment.webhook.duplicate");
+    private final Counter confirmedCounter = Metrics.counter("payment.webhook.confirmed");
+
+    public StripeWebhookServiceImpl(StripeEventRepository stripeEventRepository,
+                                    PaymentRepository paymentRepository,
+                                    MessageDispatchService messageDispatchService,
+                                    @Value("${stripe.webhook.secret}") String webhookSecret) {
+        this.stripeEventRepository = stripeEventRepository;
+        this.paymentRepository = paymentRepository;
+        this.messageDispatchService = messageDispatchService;
+        this.webhookSecret = webhookSecret;
+    }
+
+    @Override
+    public void handleEvent(String payload, String signature) {
+        Event event = constructEvent(payload, signature);
+        if (!CHECKOUT_SESSION_COMPLETED.equals(event.getType())) {
+            return;
+        }
+        Session session = toSession(event);
+        if (!PAYMENT_STATUS.equals(session.getPaymentStatus())) {
+            return;
+        }
+        receivedCounter.increment();
+        if (stripeEventRepository.existsById(event.getId())) {
+            duplicateCounter.increment();
+            return;
+        }
+        try {
+            stripeEventRepository.insert(event.getId(), session.getId(), LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            duplicateCounter.increment();
+            log.debug("Stripe event {} was already received", event.getId());
+        }
+    }
+
+    @Override
+    @Transactional
+    public int processPendingEvents(int limit) {
+        List<StripeEvent> events = stripeEventRepository.findUnprocessedForUpdate(limit);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        Set<String> sessionIds = events.stream()
+                .map(StripeEvent::getSessionId)
+                .collect(Collectors.toSet());
+        List<Payment> payments = paymentRepository.findAllBySessionIdInAndStatus(
+                sessionIds, Payment.Status.PENDING);
+        if (!payments.isEmpty()) {
+            paymentRepository.updateStatusByIds(
+                    payments.stream().map(Payment::getId).toList(), Payment.Status.PAID);
+            confirmedCounter.increment(payments.size());
+        }
+        for (Payment payment : payments) {
+            try {
+                messageDispatchService.sentMessageSuccessesPayment(payment);
+            } catch (MessageDispatchException e) {
+                log.info("Can't send the notification for payment {}", payment.getId());
+            }
+        }
+        stripeEventRepository.markProcessed(
+                events.stream().map(StripeEvent::getEventId).toList(), LocalDateTime.now());
+        return events.size();
+    }
+
+    private Event constructEvent(String payload, String signature) {
+        try {
+            return Webhook.constructEvent(payload, signature, webhookSecret);
+        } catch (SignatureVerificationException e) {
+            throw new InvalidSignatureException("Invalid Stripe signature", e);
+        }
+    }
+
+    private Session toSession(Event event) {
+        try {
+            EventDataObjectDeserializer deserializer = event.getDataObjectDeserializer();
+            Optional<StripeObject> object = deserializer.getObject();
+            return (Session) (object.isPresent() ? object.get() : deserializer.deserializeUnsafe());
+        } catch (EventDataObjectDeserializationException e) {
+            throw new InvalidSignatureException("Invalid Stripe event payload", e);
+        }
+    }
+}
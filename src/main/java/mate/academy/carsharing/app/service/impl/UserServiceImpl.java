@@ -1,9 +1,12 @@
 package mate.academy.carsharing.app.service.impl;
 
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import mate.academy.carsharing.app.config.MetricsConfig;
 import mate.academy.carsharing.app.dto.user.UpdateUserPasswordRequestDto;
 import mate.academy.carsharing.app.dto.user.UpdateUserRequestDto;
 import mate.academy.carsharing.app.dto.user.UpdateUserRoleRequestDto;
@@ -16,6 +19,8 @@ import mate.academy.carsharing.app.model.Role;
 import mate.academy.carsharing.app.model.User;
 import mate.academy.carsharing.app.repository.RoleRepository;
 import mate.academy.carsharing.app.repository.UserRepository;
+import mate.academy.carsharing.app.security.JwtPrincipal;
+import mate.academy.carsharing.app.security.SecurityUtil;
 import mate.academy.carsharing.app.service.UserService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,6 +32,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
 @Transactional
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
@@ -59,11 +66,13 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<UserResponseDto> findByEmail(String email) {
         return userRepository.findByEmail(email).map(userMapper::toResponseDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserResponseDto findUserById(Long id) {
         return userMapper.toResponseDto(getUserById(id));
     }
@@ -76,6 +85,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<UserResponseDto> getAllUsers(Pageable pageable) {
         return userRepository.findAll(pageable).map(userMapper::toResponseDto);
     }
@@ -108,6 +118,8 @@ public class UserServiceImpl implements UserService {
             return user;
         } else if (principal instanceof UserDetails userDetails) {
             email = userDetails.getUsername();
+        } else if (principal instanceof JwtPrincipal jwtPrincipal) {
+            email = jwtPrincipal.getName();
         } else {
             email = principal.toString();
         }
@@ -118,7 +130,8 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Long getUserIdFromAuthentication(Authentication authentication) {
-        return getUserFromAuthentication(authentication).getId();
+        return SecurityUtil.getUserId(authentication)
+                .orElseGet(() -> getUserFromAuthentication(authentication).getId());
     }
 
     private User getUserById(Long id) {
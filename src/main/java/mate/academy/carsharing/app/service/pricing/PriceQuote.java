@@ -0,0 +1,14 @@
+package mate.academy.carsharing.app.service.pricing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record PriceQuote(
+        Long rentalId,
+        LocalDate date,
+        BigDecimal base,
+        BigDecimal fine,
+        BigDecimal total,
+        String currency
+) {
+}
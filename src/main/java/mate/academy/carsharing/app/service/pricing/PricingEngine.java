@@ -0,0 +1,12 @@
+package mate.academy.carsharing.app.service.pricing;
+
+import java.time.LocalDate;
+import mate.academy.carsharing.app.model.Rental;
+
+public interface PricingEngine {
+    PriceQuote quote(Rental rental, LocalDate date);
+
+    void invalidateRental(Long rentalId);
+
+    void invalidateCar(Long carId);
+}
@@ -0,0 +1,116 @@
+package mate.academy.carsharing.app.service.pricing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.config.CacheConfig;
+import mate.academy.carsharing.app.event.CarPriceChangedEvent;
+import mate.academy.carsharing.app.event.RentalClosedEvent;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.PricingRule;
+import mate.academy.carsharing.app.model.Rental;
+import mate.academy.carsharing.app.repository.PricingRuleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+public class PricingEngineImpl implements PricingEngine {
+    private static final String CURRENCY = "usd";
+
+    private final PricingRuleRepository pricingRuleRepository;
+    private final Cache<QuoteKey, CachedQuote> quotes;
+    private volatile PricingRuleTable rules = PricingRuleTable.compile(List.of());
+
+    public PricingEngineImpl(
+            PricingRuleRepository pricingRuleRepository,
+            @Value("${pricing.quote-cache.max-size:10000}") long cacheMaxSize,
+            @Value("${pricing.quote-cache.ttl-ms:3600000}") long cacheTtlMillis) {
+        this.pricingRuleRepository = pricingRuleRepository;
+        quotes = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, quotes, "pricing.quotes",
+                CacheConfig.standaloneCacheTags("pricing.quotes"));
+    }
+
+    @PostConstruct
+    public void loadRules() {
+        List<PricingRule> loaded = pricingRuleRepository.findAll();
+        rules = PricingRuleTable.compile(loaded);
+        quotes.invalidateAll();
+        log.info("Compiled {} pricing rules", loaded.size());
+    }
+
+    @Override
+    public PriceQuote quote(Rental rental, LocalDate date) {
+        if (rental.getRentalDate() == null) {
+            throw new IllegalStateException("Rental date is missing");
+        }
+        if (rental.getId() == null) {
+            return calculate(rental, date);
+        }
+        return quotes.get(new QuoteKey(rental.getId(), date),
+                key -> new CachedQuote(rental.getCar().getId(), calculate(rental, date)))
+                .quote();
+    }
+
+    @Override
+    public void invalidateRental(Long rentalId) {
+        quotes.asMap().keySet().removeIf(key -> key.rentalId().equals(rentalId));
+    }
+
+    @Override
+    public void invalidateCar(Long carId) {
+        quotes.asMap().values().removeIf(cached -> cached.carId().equals(carId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRentalClosed(RentalClosedEvent event) {
+        invalidateRental(event.rentalId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCarPriceChanged(CarPriceChangedEvent event) {
+        invalidateCar(event.carId());
+    }
+
+    private PriceQuote calculate(Rental rental, LocalDate date) {
+        LocalDate actualReturnDate = rental.getActualReturnDate() != null
+                ? rental.getActualReturnDate()
+                : date;
+        Car car = rental.getCar();
+        PricingRuleTable table = rules;
+
+        long days = ChronoUnit.DAYS.between(rental.getRentalDate(), actualReturnDate);
+        BigDecimal base = table.price(PricingRule.Charge.RENTAL, car.getType(),
+                car.getDailyFee(), rental.getRentalDate(), Math.max(days, 1));
+
+        BigDecimal fine = BigDecimal.ZERO;
+        if (rental.getReturnDate() != null) {
+            long fineDays = ChronoUnit.DAYS.between(rental.getReturnDate(), actualReturnDate);
+            if (fineDays > 0) {
+                fine = table.price(PricingRule.Charge.FINE, car.getType(),
+                        car.getDailyFee(), rental.getReturnDate(), fineDays);
+            }
+        }
+        return new PriceQuote(rental.getId(), date, base, fine, base.add(fine), CURRENCY);
+    }
+
+    private record QuoteKey(Long rentalId, LocalDate date) {
+    }
+
+    private record CachedQuote(Long carId, PriceQuote quote) {
+    }
+}
@@ -0,0 +1,103 @@
+package mate.academy.carsharing.app.service.pricing;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.PricingRule;
+
+public final class PricingRuleTable {
+    private static final int CHARGES = PricingRule.Charge.values().length;
+    private static final int CAR_TYPES = Car.Type.values().length;
+    private static final int DAYS_OF_WEEK = DayOfWeek.values().length;
+    private static final int MONEY_SCALE = 2;
+
+    private final int[] bandStarts;
+    private final BigDecimal[] multipliers;
+
+    private PricingRuleTable(int[] bandStarts, BigDecimal[] multipliers) {
+        this.bandStarts = bandStarts;
+        this.multipliers = multipliers;
+    }
+
+    public static PricingRuleTable compile(Collection<PricingRule> rules) {
+        int[] bandStarts = rules.stream()
+                .mapToInt(rule -> Math.max(rule.getMinDays(), 1))
+                .distinct()
+                .sorted()
+                .toArray();
+        if (bandStarts.length == 0 || bandStarts[0] != 1) {
+            int[] withFirstBand = new int[bandStarts.length + 1];
+            withFirstBand[0] = 1;
+            System.arraycopy(bandStarts, 0, withFirstBand, 1, bandStarts.length);
+            bandStarts = withFirstBand;
+        }
+        int bands = bandStarts.length;
+
+        BigDecimal[] multipliers = new BigDecimal[CHARGES * CAR_TYPES * DAYS_OF_WEEK * bands];
+        Arrays.fill(multipliers, BigDecimal.ONE);
+        for (PricingRule rule : rules) {
+            int band = Arrays.binarySearch(bandStarts, Math.max(rule.getMinDays(), 1));
+            for (Car.Type carType : Car.Type.values()) {
+                if (rule.getCarType() != null && rule.getCarType() != carType) {
+                    continue;
+                }
+                for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                    if (rule.getDayOfWeek() != null && rule.getDayOfWeek() != dayOfWeek) {
+                        continue;
+                    }
+                    int cell = index(rule.getCharge().ordinal(), carType.ordinal(),
+                            dayOfWeek.ordinal(), band, bands);
+                    multipliers[cell] = multipliers[cell]
+                            .multiply(rule.getMultiplier(), MathContext.DECIMAL64);
+                }
+            }
+        }
+        for (int row = 0; row < multipliers.length; row += bands) {
+            for (int band = 1; band < bands; band++) {
+                multipliers[row + band] = multipliers[row + band]
+                        .multiply(multipliers[row + band - 1], MathContext.DECIMAL64);
+            }
+        }
+        return new PricingRuleTable(bandStarts, multipliers);
+    }
+
+    public BigDecimal price(PricingRule.Charge charge, Car.Type carType, BigDecimal dailyFee,
+                            LocalDate firstDay, long days) {
+        if (days <= 0) {
+            return BigDecimal.ZERO.setScale(MONEY_SCALE);
+        }
+        int bands = bandStarts.length;
+        int band = band(days);
+        int firstDayOfWeek = firstDay.getDayOfWeek().ordinal();
+        long fullWeeks = days / DAYS_OF_WEEK;
+        long remainder = days % DAYS_OF_WEEK;
+
+        BigDecimal weightedDays = BigDecimal.ZERO;
+        for (int offset = 0; offset < DAYS_OF_WEEK; offset++) {
+            long count = fullWeeks + (offset < remainder ? 1 : 0);
+            if (count == 0) {
+                continue;
+            }
+            int dayOfWeek = (firstDayOfWeek + offset) % DAYS_OF_WEEK;
+            BigDecimal multiplier = multipliers[index(charge.ordinal(), carType.ordinal(),
+                    dayOfWeek, band, bands)];
+            weightedDays = weightedDays.add(multiplier.multiply(BigDecimal.valueOf(count)));
+        }
+        return dailyFee.multiply(weightedDays).setScale(MONEY_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private int band(long days) {
+        int searchDays = (int) Math.min(days, Integer.MAX_VALUE);
+        int position = Arrays.binarySearch(bandStarts, searchDays);
+        return position >= 0 ? position : -position - 2;
+    }
+
+    private static int index(int charge, int carType, int dayOfWeek, int band, int bands) {
+        return ((charge * CAR_TYPES + carType) * DAYS_OF_WEEK + dayOfWeek) * bands + band;
+    }
+}
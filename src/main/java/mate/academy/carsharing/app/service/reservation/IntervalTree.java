@@ -0,0 +1,110 @@
+package mate.academy.carsharing.app.service.reservation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+public final class IntervalTree {
+    private static final IntervalTree EMPTY = new IntervalTree(List.of());
+
+    private final long[] ids;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private IntervalTree(List<Interval> sorted) {
+        int size = sorted.size();
+        ids = new long[size];
+        starts = new long[size];
+        ends = new long[size];
+        maxEnds = new long[size];
+        for (int i = 0; i < size; i++) {
+            Interval interval = sorted.get(i);
+            ids[i] = interval.id();
+            starts[i] = interval.start();
+            ends[i] = interval.end();
+        }
+        buildMaxEnds(0, size - 1);
+    }
+
+    public static IntervalTree of(Collection<Interval> intervals) {
+        if (intervals.isEmpty()) {
+            return EMPTY;
+        }
+        List<Interval> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparingLong(Interval::start).thenComparingLong(Interval::id));
+        return new IntervalTree(sorted);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public int maxOverlap(long from, long to) {
+        long[] overlapStarts = new long[ids.length];
+        long[] overlapEnds = new long[ids.length];
+        int count = collect(0, ids.length - 1, from, to, overlapStarts, overlapEnds, 0);
+        Arrays.sort(overlapStarts, 0, count);
+        Arrays.sort(overlapEnds, 0, count);
+
+        int current = 0;
+        int max = 0;
+        int endIndex = 0;
+        for (int startIndex = 0; startIndex < count; startIndex++) {
+            while (overlapEnds[endIndex] < overlapStarts[startIndex]) {
+                current--;
+                endIndex++;
+            }
+            max = Math.max(max, ++current);
+        }
+        return max;
+    }
+
+    public List<Interval> overlapping(long from, long to) {
+        long[] overlapStarts = new long[ids.length];
+        long[] overlapEnds = new long[ids.length];
+        int count = collect(0, ids.length - 1, from, to, overlapStarts, overlapEnds, 0);
+        List<Interval> intervals = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            intervals.add(new Interval(i, overlapStarts[i], overlapEnds[i]));
+        }
+        return intervals;
+    }
+
+    private int collect(int low, int high, long from, long to,
+                        long[] overlapStarts, long[] overlapEnds, int count) {
+        if (low > high) {
+            return count;
+        }
+        int middle = (low + high) >>> 1;
+        if (maxEnds[middle] < from) {
+            return count;
+        }
+        count = collect(low, middle - 1, from, to, overlapStarts, overlapEnds, count);
+        if (starts[middle] > to) {
+            return count;
+        }
+        if (ends[middle] >= from) {
+            overlapStarts[count] = Math.max(starts[middle], from);
+            overlapEnds[count] = Math.min(ends[middle], to);
+            count++;
+        }
+        return collect(middle + 1, high, from, to, overlapStarts, overlapEnds, count);
+    }
+
+    private long buildMaxEnds(int low, int high) {
+        if (low > high) {
+            return Long.MIN_VALUE;
+        }
+        int middle = (low + high) >>> 1;
+        long maxEnd = Math.max(ends[middle],
+                Math.max(buildMaxEnds(low, middle - 1), buildMaxEnds(middle + 1, high)));
+        maxEnds[middle] = maxEnd;
+        return maxEnd;
+    }
+
+    public record Interval(long id, long start, long end) {
+    }
+}
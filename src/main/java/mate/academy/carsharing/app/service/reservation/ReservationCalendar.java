@@ -0,0 +1,107 @@
+package mate.academy.carsharing.app.service.reservation;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.datasource.ReplicaRoutingDataSource;
+import mate.academy.carsharing.app.event.ReservationChangedEvent;
+import mate.academy.carsharing.app.model.Rental;
+import mate.academy.carsharing.app.model.Reservation;
+import mate.academy.carsharing.app.repository.ReservationRepository;
+import mate.academy.carsharing.app.service.util.TimeProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationCalendar {
+    private final ReservationRepository reservationRepository;
+    private final TimeProvider timeProvider;
+    private final Map<Long, CarTree> trees = new ConcurrentHashMap<>();
+    private final AtomicLong generations = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${reservation.calendar.rebuild-cron:0 0 0 * * *}")
+    public void rebuild() {
+        long generation = generations.incrementAndGet();
+        Map<Long, List<IntervalTree.Interval>> intervals = new HashMap<>();
+        List<Reservation> reservations = ReplicaRoutingDataSource.onPrimary(
+                () -> reservationRepository.findAllByStatusAndEndDateGreaterThanEqual(
+                        Reservation.Status.ACTIVE, timeProvider.now()));
+        for (Reservation reservation : reservations) {
+            intervals.computeIfAbsent(reservation.getCar().getId(), carId -> new ArrayList<>())
+                    .add(toInterval(reservation));
+        }
+        Set<Long> carIds = new HashSet<>(trees.keySet());
+        carIds.addAll(intervals.keySet());
+        for (Long carId : carIds) {
+            update(carId, generation, intervals.getOrDefault(carId, List.of()));
+        }
+        log.info("Reservation calendar rebuilt for {} cars", intervals.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        long generation = generations.incrementAndGet();
+        List<Reservation> reservations = ReplicaRoutingDataSource.onPrimary(
+                () -> reservationRepository.findAllByCarIdAndStatusAndEndDateGreaterThanEqual(
+                        event.carId(), Reservation.Status.ACTIVE, timeProvider.now()));
+        List<IntervalTree.Interval> intervals = reservations.stream()
+                .map(this::toInterval)
+                .toList();
+        update(event.carId(), generation, intervals);
+    }
+
+    public int getAvailableUnits(Long carId, int fleetSize, Collection<Rental> activeRentals,
+                                 LocalDate from, LocalDate to) {
+        long start = from.toEpochDay();
+        long end = to.toEpochDay();
+        CarTree carTree = trees.get(carId);
+        IntervalTree tree = carTree == null ? null : carTree.tree();
+        if (activeRentals.isEmpty()) {
+            return Math.max(fleetSize - (tree == null ? 0 : tree.maxOverlap(start, end)), 0);
+        }
+        List<IntervalTree.Interval> busy = new ArrayList<>(toIntervals(activeRentals));
+        if (tree != null) {
+            busy.addAll(tree.overlapping(start, end));
+        }
+        return Math.max(fleetSize - IntervalTree.of(busy).maxOverlap(start, end), 0);
+    }
+
+    public List<IntervalTree.Interval> toIntervals(Collection<Rental> activeRentals) {
+        long today = timeProvider.now().toEpochDay();
+        return activeRentals.stream()
+                .map(rental -> new IntervalTree.Interval(rental.getId(),
+                        rental.getRentalDate().toEpochDay(),
+                        Math.max(rental.getReturnDate().toEpochDay(), today)))
+                .toList();
+    }
+
+    private void update(Long carId, long generation, List<IntervalTree.Interval> intervals) {
+        CarTree loaded = new CarTree(generation,
+                intervals.isEmpty() ? null : IntervalTree.of(intervals));
+        trees.merge(carId, loaded,
+                (current, next) -> current.generation() > next.generation() ? current : next);
+    }
+
+    private IntervalTree.Interval toInterval(Reservation reservation) {
+        return new IntervalTree.Interval(reservation.getId(),
+                reservation.getStartDate().toEpochDay(), reservation.getEndDate().toEpochDay());
+    }
+
+    private record CarTree(long generation, IntervalTree tree) {
+    }
+}
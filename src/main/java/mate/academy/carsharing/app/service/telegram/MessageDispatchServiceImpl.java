@@ -1,73 +1,44 @@
 package mate.academy.carsharing.app.service.telegram;
 
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import lombok.RequiredArgsConstructor;
+import mate.academy.carsharing.app.config.MetricsConfig;
 import mate.academy.carsharing.app.exception.MessageDispatchException;
 import mate.academy.carsharing.app.model.Payment;
 import mate.academy.carsharing.app.model.Rental;
 import mate.academy.carsharing.app.model.User;
 import mate.academy.carsharing.app.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
 @RequiredArgsConstructor
 public class MessageDispatchServiceImpl implements MessageDispatchService {
 
     private final UserRepository userRepository;
-    private final RestTemplate restTemplate;
-
-    @Value("${telegram.api.base-url:https://api.telegram.org}")
-    private String telegramApiBaseUrl;
-
-    @Value("${telegram.bot.token}")
-    private String botToken;
+    private final NotificationOutboxService notificationOutboxService;
 
     @Override
     public void sendMessage(Long userId, String message) throws MessageDispatchException {
         User user = userRepository.findById(userId).orElseThrow(
                 () -> new MessageDispatchException("User wasn’t found"));
-        String chatId = user.getTelegramChatId();
-        if (chatId == null || chatId.isBlank()) {
-            throw new IllegalArgumentException("User does not have a telegram chat ID");
-        }
-
-        String url = String.format("%s/bot%s/sendMessage", telegramApiBaseUrl, botToken);
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        params.add("chat_id", chatId);
-        params.add("text", message);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-
-        try {
-            restTemplate.postForEntity(url, request, String.class);
-        } catch (RestClientException e) {
-            throw new MessageDispatchException("Can't send a notification", e);
-        }
+        publish(user, message);
     }
 
     @Override
     public void sentMessageSuccessesPayment(Payment payment) throws MessageDispatchException {
         String message = "The rent payment is successful!";
-        sendMessage(payment.getRental().getUser().getId(), message);
+        publish(payment.getRental().getUser(), message);
     }
 
     @Override
     public void sentMessageCancelPayment(Payment payment) throws MessageDispatchException {
         String message = "The rent payment was cancelled!";
-        sendMessage(payment.getRental().getUser().getId(), message);
+        publish(payment.getRental().getUser(), message);
     }
 
     @Override
@@ -80,7 +51,7 @@ public class MessageDispatchServiceImpl implements MessageDispatchService {
                 rental.getCar().getModel(),
                 rental.getReturnDate()
         );
-        sendMessage(rental.getUser().getId(), message);
+        publish(rental.getUser(), message);
     }
 
     @Override
@@ -91,7 +62,7 @@ public class MessageDispatchServiceImpl implements MessageDispatchService {
                 rental.getCar().getBrand(),
                 rental.getCar().getModel()
         );
-        sendMessage(rental.getUser().getId(), message);
+        publish(rental.getUser(), message);
     }
 
     @Override
@@ -103,7 +74,7 @@ public class MessageDispatchServiceImpl implements MessageDispatchService {
                 rental.getCar().getModel(),
                 rental.getReturnDate()
         );
-        sendMessage(rental.getUser().getId(), message);
+        publish(rental.getUser(), message);
     }
 
     @Override
@@ -114,7 +85,7 @@ public class MessageDispatchServiceImpl implements MessageDispatchService {
                         + "A reminder that your lease expires at %s",
                 rental.getReturnDate()
         );
-        sendMessage(rental.getUser().getId(), message);
+        publish(rental.getUser(), message);
     }
 
     @Override
@@ -132,12 +103,20 @@ public class MessageDispatchServiceImpl implements MessageDispatchService {
                 rental.getUser().getFirstName(),
                 rental.getUser().getLastName()
         );
-        sendMessage(user.getId(), message);
+        publish(user, message);
     }
 
     @Override
     public void sentMessageToManagerNotOverdue(User user) throws MessageDispatchException {
         String message = "There are no rent arrears!";
-        sendMessage(user.getId(), message);
+        publish(user, message);
+    }
+
+    private void publish(User user, String message) throws MessageDispatchException {
+        String chatId = user.getTelegramChatId();
+        if (chatId == null || chatId.isBlank()) {
+            throw new MessageDispatchException("User does not have a telegram chat ID");
+        }
+        notificationOutboxService.save(chatId, message);
     }
 }
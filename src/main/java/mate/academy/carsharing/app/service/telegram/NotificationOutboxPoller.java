@@ -0,0 +1,67 @@
+package mate.academy.carsharing.app.service.telegram;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class NotificationOutboxPoller {
+    private static final int LEASE_RENEWAL_CHUNK = 1000;
+
+    private final NotificationOutboxService notificationOutboxService;
+    private final TelegramNotificationQueue notificationQueue;
+    private final int batchSize;
+    private final long leaseRenewalIntervalNanos;
+    private final Counter claimedCounter = Metrics.counter("telegram.outbox.claimed");
+    private long lastLeaseRenewal = System.nanoTime();
+
+    public NotificationOutboxPoller(
+            NotificationOutboxService notificationOutboxService,
+            TelegramNotificationQueue notificationQueue,
+            @Value("${telegram.outbox.batch-size:100}") int batchSize,
+            @Value("${telegram.outbox.lease-ms:60000}") long leaseMillis) {
+        this.notificationOutboxService = notificationOutboxService;
+        this.notificationQueue = notificationQueue;
+        this.batchSize = batchSize;
+        this.leaseRenewalIntervalNanos = TimeUnit.MILLISECONDS.toNanos(leaseMillis) / 2;
+    }
+
+    @Scheduled(fixedDelayString = "${telegram.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        renewLeases();
+        int limit = Math.min(batchSize, notificationQueue.remainingCapacity());
+        while (limit > 0) {
+            List<TelegramMessage> messages = notificationOutboxService.claim(limit);
+            claimedCounter.increment(messages.size());
+            for (TelegramMessage message : messages) {
+                if (!notificationQueue.enqueue(message)) {
+                    log.warn("Notification {} will be retried after its lease expires",
+                            message.outboxId());
+                }
+            }
+            if (messages.size() < limit) {
+                return;
+            }
+            limit = Math.min(batchSize, notificationQueue.remainingCapacity());
+        }
+    }
+
+    private void renewLeases() {
+        long now = System.nanoTime();
+        if (now - lastLeaseRenewal < leaseRenewalIntervalNanos) {
+            return;
+        }
+        lastLeaseRenewal = now;
+        List<Long> ids = notificationQueue.inFlightIds();
+        for (int from = 0; from < ids.size(); from += LEASE_RENEWAL_CHUNK) {
+            notificationOutboxService.extendLease(
+                    ids.subList(from, Math.min(from + LEASE_RENEWAL_CHUNK, ids.size())));
+        }
+    }
+}
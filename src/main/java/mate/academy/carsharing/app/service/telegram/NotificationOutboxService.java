@@ -0,0 +1,16 @@
+package mate.academy.carsharing.app.service.telegram;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxService {
+    void save(String chatId, String text);
+
+    List<TelegramMessage> claim(int limit);
+
+    void extendLease(Collection<Long> ids);
+
+    void markDelivered(Collection<Long> ids);
+
+    void markUndelivered(Collection<Long> ids);
+}
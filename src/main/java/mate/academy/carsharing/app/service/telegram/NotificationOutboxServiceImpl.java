@@ -0,0 +1,76 @@
+package mate.academy.carsharing.app.service.telegram;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import mate.academy.carsharing.app.model.OutboxMessage;
+import mate.academy.carsharing.app.repository.OutboxMessageRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final Duration lease;
+    private final int maxAttempts;
+
+    public NotificationOutboxServiceImpl(
+            OutboxMessageRepository outboxMessageRepository,
+            @Value("${telegram.outbox.lease-ms:60000}") long leaseMillis,
+            @Value("${telegram.outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    @Transactional
+    public void save(String chatId, String text) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxMessage message = new OutboxMessage();
+        message.setChatId(chatId);
+        message.setText(text);
+        message.setStatus(OutboxMessage.Status.PENDING);
+        message.setCreatedAt(now);
+        message.setAvailableAt(now);
+        outboxMessageRepository.save(message);
+    }
+
+    @Override
+    @Transactional
+    public List<TelegramMessage> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> messages = outboxMessageRepository.findAvailableForUpdate(now, limit);
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+        outboxMessageRepository.lease(
+                messages.stream().map(OutboxMessage::getId).toList(), now.plus(lease));
+        return messages.stream()
+                .map(message -> new TelegramMessage(
+                        message.getId(), message.getChatId(), message.getText()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void extendLease(Collection<Long> ids) {
+        outboxMessageRepository.extendLease(
+                ids, LocalDateTime.now().plus(lease), OutboxMessage.Status.PENDING);
+    }
+
+    @Override
+    @Transactional
+    public void markDelivered(Collection<Long> ids) {
+        outboxMessageRepository.deleteAllByIds(ids);
+    }
+
+    @Override
+    @Transactional
+    public void markUndelivered(Collection<Long> ids) {
+        outboxMessageRepository.updateStatusWhenAttemptsExhausted(
+                ids, maxAttempts, OutboxMessage.Status.FAILED);
+    }
+}
@@ -1,58 +1,145 @@
 package mate.academy.carsharing.app.service.telegram;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
 import mate.academy.carsharing.app.exception.MessageDispatchException;
 import mate.academy.carsharing.app.model.Rental;
 import mate.academy.carsharing.app.model.Role;
 import mate.academy.carsharing.app.model.User;
 import mate.academy.carsharing.app.repository.RentalRepository;
 import mate.academy.carsharing.app.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 public class RentalMessageScheduler {
+    private static final String OVERDUE_SCAN = "overdue";
+    private static final String NOT_OVERDUE_SCAN = "not-overdue";
+    private static final LocalDate FIRST_RETURN_DATE = LocalDate.EPOCH;
+    private static final long FIRST_ID = 0L;
 
     private final RentalRepository rentalRepository;
     private final MessageDispatchService messageDispatchService;
     private final UserRepository userRepository;
+    private final int chunkSize;
+    private final AtomicLong overdueProgress = registerProgress(OVERDUE_SCAN);
+    private final AtomicLong notOverdueProgress = registerProgress(NOT_OVERDUE_SCAN);
 
     public RentalMessageScheduler(RentalRepository rentalRepository,
                                   MessageDispatchService messageDispatchService,
-                                  UserRepository userRepository) {
+                                  UserRepository userRepository,
+                                  @Value("${rental.notification.chunk-size:500}")
+                                  int chunkSize) {
         this.rentalRepository = rentalRepository;
         this.messageDispatchService = messageDispatchService;
         this.userRepository = userRepository;
+        this.chunkSize = chunkSize;
     }
 
     @Scheduled(cron = "0 0 9 * * *")
-    public void messageOverdueRents() throws MessageDispatchException {
-        List<Rental> overdueRentals = rentalRepository
-                .findAllByReturnDateLessThan(LocalDate.now());
+    public void messageOverdueRents() {
+        LocalDate today = LocalDate.now();
         List<User> managers = userRepository.findAllByRoles_Name(Role.RoleName.MANAGER);
 
-        if (overdueRentals.isEmpty()) {
-            for (User manager : managers) {
-                messageDispatchService.sentMessageToManagerNotOverdue(manager);
-            }
-            return;
-        }
+        long overdue = scan(OVERDUE_SCAN, overdueProgress, FIRST_RETURN_DATE,
+                (afterDate, afterId, pageable) -> rentalRepository
+                        .findActiveOverdueAfter(today, afterDate, afterId, pageable),
+                rental -> {
+                    for (User manager : managers) {
+                        dispatch(rental, () -> messageDispatchService
+                                .sentMessageToManagerOverdue(manager, rental));
+                    }
+                    dispatch(rental, () -> messageDispatchService
+                            .sentMessageOverdueRental(rental));
+                });
 
-        for (Rental rental : overdueRentals) {
+        if (overdue == 0) {
             for (User manager : managers) {
-                messageDispatchService.sentMessageToManagerOverdue(manager, rental);
+                dispatch(null, () -> messageDispatchService
+                        .sentMessageToManagerNotOverdue(manager));
             }
-            messageDispatchService.sentMessageOverdueRental(rental);
         }
     }
 
     @Scheduled(cron = "0 0 9 * * *")
-    public void messageNotOverdueRents() throws MessageDispatchException {
-        List<Rental> activeRentals = rentalRepository
-                .findAllByReturnDateGreaterThanEqual(LocalDate.now());
-        for (Rental rental : activeRentals) {
-            messageDispatchService.sentMessageNotOverdueRental(rental);
+    public void messageNotOverdueRents() {
+        LocalDate today = LocalDate.now();
+        scan(NOT_OVERDUE_SCAN, notOverdueProgress, today,
+                (afterDate, afterId, pageable) -> rentalRepository
+                        .findActiveNotOverdueAfter(today, afterDate, afterId, pageable),
+                rental -> dispatch(rental, () -> messageDispatchService
+                        .sentMessageNotOverdueRental(rental)));
+    }
+
+    private long scan(String scanName, AtomicLong progress, LocalDate firstReturnDate,
+                      ChunkLoader loader, RentalHandler handler) {
+        Counter processedCounter = Metrics.counter(
+                "rental.notification.scan.processed", "scan", scanName);
+        progress.set(0);
+
+        LocalDate afterDate = firstReturnDate;
+        long afterId = FIRST_ID;
+        List<Rental> chunk;
+        do {
+            chunk = loader.load(afterDate, afterId, PageRequest.of(0, chunkSize));
+            for (Rental rental : chunk) {
+                try {
+                    handler.handle(rental);
+                } catch (RuntimeException e) {
+                    log.warn("Can't notify about rental {} in the {} scan", rental.getId(),
+                            scanName, e);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                Rental last = chunk.get(chunk.size() - 1);
+                afterDate = last.getReturnDate();
+                afterId = last.getId();
+            }
+            processedCounter.increment(chunk.size());
+            log.info("Rental {} scan: {} rentals processed", scanName,
+                    progress.addAndGet(chunk.size()));
+        } while (chunk.size() == chunkSize);
+        return progress.get();
+    }
+
+    private static AtomicLong registerProgress(String scanName) {
+        AtomicLong progress = new AtomicLong();
+        Gauge.builder("rental.notification.scan.progress", progress, AtomicLong::get)
+                .tag("scan", scanName)
+                .register(Metrics.globalRegistry);
+        return progress;
+    }
+
+    private void dispatch(Rental rental, Dispatch dispatch) {
+        try {
+            dispatch.send();
+        } catch (MessageDispatchException e) {
+            log.info("Can't send the notification for rental {}",
+                    rental == null ? null : rental.getId());
         }
     }
+
+    @FunctionalInterface
+    private interface ChunkLoader {
+        List<Rental> load(LocalDate afterDate, Long afterId, Pageable pageable);
+    }
+
+    @FunctionalInterface
+    private interface RentalHandler {
+        void handle(Rental rental);
+    }
+
+    @FunctionalInterface
+    private interface Dispatch {
+        void send() throws MessageDispatchException;
+    }
 }
@@ -0,0 +1,18 @@
+package mate.academy.carsharing.app.service.telegram;
+
+public record TelegramMessage(
+        Long outboxId,
+        String chatId,
+        String text,
+        int attempt
+) {
+    private static final int FIRST_ATTEMPT = 1;
+
+    public TelegramMessage(Long outboxId, String chatId, String text) {
+        this(outboxId, chatId, text, FIRST_ATTEMPT);
+    }
+
+    public TelegramMessage nextAttempt() {
+        return new TelegramMessage(outboxId, chatId, text, attempt + 1);
+    }
+}
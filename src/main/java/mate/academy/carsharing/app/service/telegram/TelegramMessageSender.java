@@ -0,0 +1,47 @@
+package mate.academy.carsharing.app.service.telegram;
+
+import mate.academy.carsharing.app.exception.MessageDispatchException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+public class TelegramMessageSender {
+    private final RestTemplate restTemplate;
+    private final String telegramApiBaseUrl;
+    private final String botToken;
+
+    public TelegramMessageSender(
+            RestTemplate restTemplate,
+            @Value("${telegram.api.base-url:https://api.telegram.org}") String telegramApiBaseUrl,
+            @Value("${telegram.bot.token}") String botToken) {
+        this.restTemplate = restTemplate;
+        this.telegramApiBaseUrl = telegramApiBaseUrl;
+        this.botToken = botToken;
+    }
+
+    public void send(String chatId, String text) throws MessageDispatchException {
+        String url = String.format("%s/bot%s/sendMessage", telegramApiBaseUrl, botToken);
+
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("chat_id", chatId);
+        params.add("text", text);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
+
+        try {
+            restTemplate.postForEntity(url, request, String.class);
+        } catch (RestClientException e) {
+            throw new MessageDispatchException("Can't send a notification", e);
+        }
+    }
+}
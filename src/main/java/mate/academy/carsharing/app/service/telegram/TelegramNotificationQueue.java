@@ -0,0 +1,260 @@
+package mate.academy.carsharing.app.service.telegram;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.exception.MessageDispatchException;
+import mate.academy.carsharing.app.service.util.WorkerThreads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class TelegramNotificationQueue {
+    private static final int MAX_MESSAGE_LENGTH = 4096;
+    private static final int MAX_TRACKED_CHATS = 10_000;
+    private static final String BATCH_SEPARATOR = "\n\n";
+
+    private final TelegramMessageSender sender;
+    private final NotificationOutboxService notificationOutboxService;
+    private final BlockingQueue<TelegramMessage> queue = new LinkedBlockingQueue<>();
+    private final int capacity;
+    private final int workers;
+    private final int batchSize;
+    private final long perChatIntervalNanos;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final boolean virtualThreads;
+    private final Map<String, Long> nextChatSlots = new ConcurrentHashMap<>();
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter rejectedCounter = Metrics.counter("telegram.notification.rejected");
+    private final Counter sentCounter = Metrics.counter("telegram.notification.sent");
+    private final Counter failedCounter = Metrics.counter("telegram.notification.failed");
+    private ExecutorService executor;
+    private ExecutorService chatExecutor;
+    private ScheduledExecutorService delayExecutor;
+
+    public TelegramNotificationQueue(
+            TelegramMessageSender sender,
+            NotificationOutboxService notificationOutboxService,
+            @Value("${telegram.notification.queue-capacity:10000}") int queueCapacity,
+            @Value("${telegram.notification.workers:2}") int workers,
+            @Value("${telegram.notification.batch-size:20}") int batchSize,
+            @Value("${telegram.notification.per-chat-interval-ms:1000}") long perChatIntervalMillis,
+            @Value("${telegram.notification.max-attempts:5}") int maxAttempts,
+            @Value("${telegram.notification.initial-backoff-ms:500}") long initialBackoffMillis,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.sender = sender;
+        this.notificationOutboxService = notificationOutboxService;
+        this.capacity = queueCapacity;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.perChatIntervalNanos = TimeUnit.MILLISECONDS.toNanos(perChatIntervalMillis);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.virtualThreads = virtualThreads;
+        Gauge.builder("telegram.notification.queue.size", queue, BlockingQueue::size)
+                .register(Metrics.globalRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newFixedThreadPool(workers,
+                WorkerThreads.factory("telegram-notification-", virtualThreads));
+        delayExecutor = Executors.newSingleThreadScheduledExecutor(
+                WorkerThreads.factory("telegram-delay-", false));
+        if (virtualThreads) {
+            chatExecutor = Executors.newThreadPerTaskExecutor(
+                    WorkerThreads.factory("telegram-chat-", true));
+        }
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+        delayExecutor.shutdownNow();
+        if (chatExecutor != null) {
+            chatExecutor.shutdownNow();
+        }
+        if (!queue.isEmpty()) {
+            log.info("{} claimed Telegram notifications are left in the outbox for the next "
+                    + "poll", queue.size());
+        }
+    }
+
+    public boolean enqueue(TelegramMessage message) {
+        if (inFlight.contains(message.outboxId())) {
+            log.debug("Notification {} is already queued", message.outboxId());
+            return true;
+        }
+        if (inFlight.size() >= capacity) {
+            rejectedCounter.increment();
+            return false;
+        }
+        inFlight.add(message.outboxId());
+        queue.add(message);
+        return true;
+    }
+
+    public int remainingCapacity() {
+        return Math.max(0, capacity - inFlight.size());
+    }
+
+    public List<Long> inFlightIds() {
+        return List.copyOf(inFlight);
+    }
+
+    private void drain() {
+        List<TelegramMessage> batch = new ArrayList<>(batchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                Map<String, List<TelegramMessage>> chats = groupByChat(batch);
+                if (chatExecutor == null || chats.size() == 1) {
+                    for (Map.Entry<String, List<TelegramMessage>> chat : chats.entrySet()) {
+                        sendChat(chat.getKey(), chat.getValue());
+                    }
+                } else {
+                    List<Callable<Void>> sends = new ArrayList<>(chats.size());
+                    chats.forEach((chatId, messages) -> sends.add(() -> {
+                        sendChat(chatId, messages);
+                        return null;
+                    }));
+                    chatExecutor.invokeAll(sends);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sendChat(String chatId, List<TelegramMessage> messages) {
+        List<Chunk> chunks = joinTexts(messages);
+        for (int i = 0; i < chunks.size(); i++) {
+            long wait = acquireChatSlot(chatId);
+            if (wait > 0) {
+                for (Chunk deferred : chunks.subList(i, chunks.size())) {
+                    requeueLater(deferred.messages(), wait);
+                }
+                return;
+            }
+            send(chatId, chunks.get(i));
+        }
+    }
+
+    private void send(String chatId, Chunk chunk) {
+        List<Long> outboxIds = chunk.outboxIds();
+        boolean done = true;
+        try {
+            sender.send(chatId, chunk.text());
+            sentCounter.increment();
+            notificationOutboxService.markDelivered(outboxIds);
+        } catch (MessageDispatchException e) {
+            int attempt = chunk.attempt();
+            if (attempt < maxAttempts) {
+                done = false;
+                List<TelegramMessage> retries = chunk.messages().stream()
+                        .map(TelegramMessage::nextAttempt)
+                        .toList();
+                requeueLater(retries,
+                        TimeUnit.MILLISECONDS.toNanos(initialBackoffMillis << (attempt - 1)));
+            } else {
+                failedCounter.increment();
+                log.warn("Can't send the notification to chat {} after {} attempts",
+                        chatId, attempt, e);
+                notificationOutboxService.markUndelivered(outboxIds);
+            }
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("Unexpected failure while sending the notification to chat {}",
+                    chatId, e);
+        } finally {
+            if (done) {
+                inFlight.removeAll(outboxIds);
+            }
+        }
+    }
+
+    private void requeueLater(List<TelegramMessage> messages, long delayNanos) {
+        delayExecutor.schedule(() -> queue.addAll(messages), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Map<String, List<TelegramMessage>> groupByChat(List<TelegramMessage> batch) {
+        Map<String, List<TelegramMessage>> messages = new LinkedHashMap<>();
+        for (TelegramMessage message : batch) {
+            messages.computeIfAbsent(message.chatId(), chatId -> new ArrayList<>())
+                    .add(message);
+        }
+        return messages;
+    }
+
+    private List<Chunk> joinTexts(List<TelegramMessage> messages) {
+        List<Chunk> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        List<TelegramMessage> joined = new ArrayList<>();
+        for (TelegramMessage message : messages) {
+            String text = message.text();
+            if (!current.isEmpty()
+                    && current.length() + BATCH_SEPARATOR.length() + text.length()
+                    > MAX_MESSAGE_LENGTH) {
+                chunks.add(new Chunk(current.toString(), joined));
+                current.setLength(0);
+                joined = new ArrayList<>();
+            }
+            if (!current.isEmpty()) {
+                current.append(BATCH_SEPARATOR);
+            }
+            current.append(text);
+            joined.add(message);
+        }
+        chunks.add(new Chunk(current.toString(), joined));
+        return chunks;
+    }
+
+    private long acquireChatSlot(String chatId) {
+        long now = System.nanoTime();
+        if (nextChatSlots.size() > MAX_TRACKED_CHATS) {
+            nextChatSlots.values().removeIf(slot -> slot - now < 0);
+        }
+        long[] wait = new long[1];
+        nextChatSlots.compute(chatId, (id, next) -> {
+            if (next != null && next - now > 0) {
+                wait[0] = next - now;
+                return next;
+            }
+            return now + perChatIntervalNanos;
+        });
+        return wait[0];
+    }
+
+    private record Chunk(String text, List<TelegramMessage> messages) {
+        private List<Long> outboxIds() {
+            return messages.stream().map(TelegramMessage::outboxId).toList();
+        }
+
+        private int attempt() {
+            return messages.stream().mapToInt(TelegramMessage::attempt).max().orElse(1);
+        }
+    }
+}
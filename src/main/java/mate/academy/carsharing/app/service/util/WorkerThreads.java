@@ -0,0 +1,15 @@
+package mate.academy.carsharing.app.service.util;
+
+import java.util.concurrent.ThreadFactory;
+
+public final class WorkerThreads {
+    private WorkerThreads() {
+    }
+
+    public static ThreadFactory factory(String namePrefix, boolean virtual) {
+        if (virtual) {
+            return Thread.ofVirtual().name(namePrefix, 1).factory();
+        }
+        return Thread.ofPlatform().name(namePrefix, 1).daemon(true).factory();
+    }
+}
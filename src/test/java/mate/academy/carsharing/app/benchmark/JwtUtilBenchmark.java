@@ -0,0 +1,57 @@
+package mate.academy.carsharing.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import mate.academy.carsharing.app.model.Role;
+import mate.academy.carsharing.app.model.User;
+import mate.academy.carsharing.app.security.JwtPrincipal;
+import mate.academy.carsharing.app.security.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+    private static final String SECRET =
+            "5a2d7e21bfc7a6937a8429f3e89c0e15f2d3c7a8d1b2c3e4f5a6b7c8d9e0f123";
+    private static final long EXPIRATION = 5_000_000;
+
+    @Param({"0", "10000"})
+    private long cacheMaxSize;
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, EXPIRATION, cacheMaxSize, EXPIRATION);
+        user = new User();
+        user.setId(1L);
+        user.setEmail("bob@gmail.com");
+        user.getRoles().add(new Role(Role.RoleName.CUSTOMER));
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public JwtPrincipal parse() {
+        return jwtUtil.parse(token);
+    }
+}
@@ -0,0 +1,85 @@
+package mate.academy.carsharing.app.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import mate.academy.carsharing.app.dto.car.CarDto;
+import mate.academy.carsharing.app.dto.payment.PaymentDto;
+import mate.academy.carsharing.app.dto.rental.RentalResponseDto;
+import mate.academy.carsharing.app.mapper.CarMapper;
+import mate.academy.carsharing.app.mapper.PaymentMapper;
+import mate.academy.carsharing.app.mapper.RentalMapper;
+import mate.academy.carsharing.app.mapper.impl.CarMapperImpl;
+import mate.academy.carsharing.app.mapper.impl.PaymentMapperImpl;
+import mate.academy.carsharing.app.mapper.impl.RentalMapperImpl;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Payment;
+import mate.academy.carsharing.app.model.Rental;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private final CarMapper carMapper = new CarMapperImpl();
+    private final RentalMapper rentalMapper = new RentalMapperImpl();
+    private final PaymentMapper paymentMapper = new PaymentMapperImpl();
+
+    private Car car;
+    private Rental rental;
+    private Payment payment;
+
+    @Setup
+    public void setUp() {
+        car = new Car();
+        car.setId(1L);
+        car.setBrand("Audi");
+        car.setModel("Q8");
+        car.setType(Car.Type.SUV);
+        car.setInventory(5);
+        car.setDailyFee(new BigDecimal("520.00"));
+
+        rental = new Rental();
+        rental.setId(1L);
+        rental.setCar(car);
+        rental.setRentalDate(LocalDate.of(2025, 6, 1));
+        rental.setReturnDate(LocalDate.of(2025, 6, 8));
+        rental.setIsActive(true);
+
+        payment = new Payment();
+        payment.setId(1L);
+        payment.setRental(rental);
+        payment.setStatus(Payment.Status.PENDING);
+        payment.setType(Payment.Type.PAYMENT);
+        payment.setSessionId("cs_test_1");
+        payment.setSessionUrl("https://checkout.stripe.com/c/pay/cs_test_1");
+        payment.setAmount(new BigDecimal("3640.00"));
+    }
+
+    @Benchmark
+    public CarDto carToDto() {
+        return carMapper.toDto(car);
+    }
+
+    @Benchmark
+    public RentalResponseDto rentalToResponseDto() {
+        return rentalMapper.toResponseDto(rental);
+    }
+
+    @Benchmark
+    public PaymentDto paymentToDto() {
+        return paymentMapper.toDto(payment);
+    }
+}
@@ -5,6 +5,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -138,6 +141,70 @@ class CarControllerTest {
                 .andExpect(jsonPath("$.dailyFee").value(680.00));
     }
 
+    @Test
+    @WithMockUser(username = TEST_USER_EMAIL, roles = "MANAGER")
+    @DisplayName("GetCarById: should return Not Modified (304) while the car version is unchanged")
+    void getCarById_IfNoneMatch_shouldReturnNotModified() throws Exception {
+        Car car = new Car();
+        car.setModel("X3");
+        car.setBrand("BMW");
+        car.setType(Car.Type.SUV);
+        car.setInventory(2);
+        car.setDailyFee(BigDecimal.valueOf(680.00));
+        car = carRepository.save(car);
+
+        String etag = mockMvc.perform(get("/cars/" + car.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.version").doesNotExist())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/cars/" + car.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        CreateCarDto updateDto = new CreateCarDto(
+                "X5",
+                "BMW",
+                Car.Type.SUV,
+                2,
+                BigDecimal.valueOf(700.00)
+        );
+        mockMvc.perform(put("/cars/" + car.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/cars/" + car.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.model").value("X5"));
+    }
+
+    @Test
+    @WithMockUser(username = TEST_USER_EMAIL, roles = "MANAGER")
+    @DisplayName("GetAllCars: should return Not Modified (304) while the page is unchanged")
+    void getAllCars_IfNoneMatch_shouldReturnNotModified() throws Exception {
+        Car car = new Car();
+        car.setModel("X3");
+        car.setBrand("BMW");
+        car.setType(Car.Type.SUV);
+        car.setInventory(2);
+        car.setDailyFee(BigDecimal.valueOf(680.00));
+        carRepository.save(car);
+
+        String etag = mockMvc.perform(get("/cars"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/cars").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     @WithMockUser(username = TEST_USER_EMAIL, roles = "MANAGER")
     @DisplayName("UpdateCar: should return OK (200) with updated car.")
@@ -0,0 +1,143 @@
+package mate.academy.carsharing.app.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Role;
+import mate.academy.carsharing.app.model.User;
+import mate.academy.carsharing.app.repository.CarRepository;
+import mate.academy.carsharing.app.repository.RoleRepository;
+import mate.academy.carsharing.app.repository.UserRepository;
+import mate.academy.carsharing.app.security.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:catalogue-load;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.open-in-view=false",
+        "telegram.api.base-url=http://localhost:1"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CataloguePollingLoadTest {
+    private static final int CARS = Integer.getInteger("benchmark.cars", 200);
+    private static final int POLLS = Integer.getInteger("benchmark.polls", 500);
+    private static final String PAGE = "/cars?size=50&sort=id";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Test
+    @DisplayName("Polling GET /cars with gzip and If-None-Match transfers fewer bytes")
+    void getAllCars_shouldSaveBandwidthForPollingClients() throws Exception {
+        seedCars();
+        String token = seedUser();
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build()) {
+            poll(client, token, "identity", false);
+            Poll plain = poll(client, token, "identity", false);
+            Poll gzip = poll(client, token, "gzip", false);
+            Poll conditional = poll(client, token, "gzip", true);
+            log.info("{} polls of {} over {} cars", POLLS, PAGE, CARS);
+            for (Poll result : List.of(plain, gzip, conditional)) {
+                log.info("{}: status {}, {} bytes per poll, mean latency {} ms", result.mode(),
+                        result.status(), result.bytes() / POLLS,
+                        String.format("%.2f", result.nanos() / 1e6 / POLLS));
+            }
+
+            assertThat(plain.status()).isEqualTo(200);
+            assertThat(gzip.bytes()).isLessThan(plain.bytes());
+            assertThat(conditional.status()).isEqualTo(304);
+            assertThat(conditional.bytes()).isZero();
+        }
+    }
+
+    private Poll poll(HttpClient client, String token, String encoding, boolean conditional)
+            throws Exception {
+        String etag = null;
+        long bytes = 0;
+        long nanos = 0;
+        int status = 0;
+        for (int i = 0; i <= POLLS; i++) {
+            HttpRequest.Builder request = HttpRequest.newBuilder()
+                    .uri(URI.create("http://localhost:" + port + PAGE))
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                    .header(HttpHeaders.ACCEPT_ENCODING, encoding);
+            if (conditional && etag != null) {
+                request.header(HttpHeaders.IF_NONE_MATCH, etag);
+            }
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = client.send(request.build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            etag = response.headers().firstValue(HttpHeaders.ETAG).orElse(etag);
+            if (i > 0) {
+                bytes += response.body().length;
+                nanos += elapsed;
+                status = response.statusCode();
+            }
+        }
+        String mode = conditional ? "Conditional " + encoding : encoding;
+        return new Poll(mode, status, bytes, nanos);
+    }
+
+    private void seedCars() {
+        List<Car> cars = new ArrayList<>(CARS);
+        for (int i = 0; i < CARS; i++) {
+            Car car = new Car();
+            car.setBrand("Audi");
+            car.setModel("Q" + i);
+            car.setType(Car.Type.SUV);
+            car.setInventory(5);
+            car.setDailyFee(new BigDecimal("520.00"));
+            cars.add(car);
+        }
+        carRepository.saveAll(cars);
+    }
+
+    private String seedUser() {
+        User user = new User();
+        user.setEmail("catalogue@gmail.com");
+        user.setFirstName("Catalogue");
+        user.setLastName("User");
+        user.setPassword("Password111");
+        user.setTelegramChatId("catalogue-chat");
+        user.setRoles(Set.of(roleRepository.findByName(Role.RoleName.CUSTOMER).orElseThrow()));
+        return jwtUtil.generateToken(userRepository.save(user));
+    }
+
+    private record Poll(String mode, int status, long bytes, long nanos) {
+    }
+}
@@ -0,0 +1,224 @@
+package mate.academy.carsharing.app.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.dto.rental.CreateRentalRequestDto;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Role;
+import mate.academy.carsharing.app.model.User;
+import mate.academy.carsharing.app.repository.CarRepository;
+import mate.academy.carsharing.app.repository.RoleRepository;
+import mate.academy.carsharing.app.repository.UserRepository;
+import mate.academy.carsharing.app.security.JwtUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:pool-load;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=${benchmark.pool-size:4}",
+        "spring.datasource.hikari.connection-timeout=60000",
+        "spring.jpa.open-in-view=false",
+        "telegram.api.base-url=http://localhost:1"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ConnectionPoolLoadTest {
+    private static final int MAX_CLIENTS = Integer.getInteger("benchmark.max-clients", 64);
+    private static final int REQUESTS_PER_CLIENT =
+            Integer.getInteger("benchmark.requests-per-client", 20);
+    private static final double SCALING_THRESHOLD = 1.1;
+    private static final long SAMPLE_INTERVAL_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final MeterRegistry METER_REGISTRY = new SimpleMeterRegistry();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private final AtomicInteger users = new AtomicInteger();
+
+    @BeforeAll
+    static void addMeterRegistry() {
+        Metrics.addRegistry(METER_REGISTRY);
+    }
+
+    @AfterAll
+    static void removeMeterRegistry() {
+        Metrics.removeRegistry(METER_REGISTRY);
+    }
+
+    @Test
+    @DisplayName("Concurrent POST /rentals beyond the pool size queue for connections")
+    void createRental_shouldSaturateConnectionPool() throws Exception {
+        List<Long> carIds = seedCars();
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        log.info("Pool size {}, {} requests per client", dataSource.getMaximumPoolSize(),
+                REQUESTS_PER_CLIENT);
+
+        double bestThroughput = 0;
+        int saturatedAt = 0;
+        int lastMaxPending = 0;
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build()) {
+            for (int clients = 1; clients <= MAX_CLIENTS; clients *= 2) {
+                List<List<String>> tokens = seedUsers(clients);
+                Timer acquire = METER_REGISTRY.find("hikaricp.connections.acquire")
+                        .timer();
+                final long acquireCount = acquire.count();
+                final double acquireNanos = acquire.totalTime(TimeUnit.NANOSECONDS);
+
+                AtomicInteger maxPending = new AtomicInteger();
+                AtomicBoolean running = new AtomicBoolean(true);
+                Thread sampler = Thread.ofVirtual().start(() -> {
+                    while (running.get()) {
+                        maxPending.accumulateAndGet(
+                                pool.getThreadsAwaitingConnection(), Math::max);
+                        LockSupport.parkNanos(SAMPLE_INTERVAL_NANOS);
+                    }
+                });
+
+                long start = System.nanoTime();
+                try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    List<Future<?>> runs = new ArrayList<>(clients);
+                    for (int i = 0; i < clients; i++) {
+                        Long carId = carIds.get(i);
+                        List<String> clientTokens = tokens.get(i);
+                        runs.add(executor.submit(() -> {
+                            for (String token : clientTokens) {
+                                assertThat(createRental(client, token, carId)).isEqualTo(201);
+                            }
+                            return null;
+                        }));
+                    }
+                    for (Future<?> run : runs) {
+                        run.get();
+                    }
+                }
+                long elapsed = System.nanoTime() - start;
+                running.set(false);
+                sampler.join();
+
+                int requests = clients * REQUESTS_PER_CLIENT;
+                double throughput = requests / (elapsed / 1e9);
+                long acquired = acquire.count() - acquireCount;
+                double acquireMillis = acquired == 0 ? 0
+                        : (acquire.totalTime(TimeUnit.NANOSECONDS) - acquireNanos)
+                        / acquired / 1e6;
+                log.info("{} clients: {} req/s, mean latency {} ms, max pending {},"
+                                + " mean connection wait {} ms", clients,
+                        String.format("%.0f", throughput),
+                        String.format("%.1f", elapsed / 1e6 / REQUESTS_PER_CLIENT),
+                        maxPending.get(), String.format("%.2f", acquireMillis));
+
+                if (throughput > bestThroughput * SCALING_THRESHOLD) {
+                    bestThroughput = throughput;
+                } else if (saturatedAt == 0) {
+                    saturatedAt = clients / 2;
+                }
+                lastMaxPending = maxPending.get();
+            }
+        }
+        log.info("Throughput stops scaling at {} concurrent clients",
+                saturatedAt == 0 ? "more than " + MAX_CLIENTS : saturatedAt);
+
+        assertThat(lastMaxPending).isPositive();
+    }
+
+    private int createRental(HttpClient client, String token, Long carId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + port + "/rentals"))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                        new CreateRentalRequestDto(LocalDate.now().plusDays(3), carId))))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode();
+    }
+
+    private List<Long> seedCars() {
+        List<Long> carIds = new ArrayList<>(MAX_CLIENTS);
+        for (int i = 0; i < MAX_CLIENTS; i++) {
+            Car car = new Car();
+            car.setBrand("Audi");
+            car.setModel("Q" + i);
+            car.setType(Car.Type.SUV);
+            car.setInventory(Integer.MAX_VALUE);
+            car.setDailyFee(new BigDecimal("520.00"));
+            carIds.add(carRepository.save(car).getId());
+        }
+        return carIds;
+    }
+
+    private List<List<String>> seedUsers(int clients) {
+        Role customer = roleRepository.findByName(Role.RoleName.CUSTOMER).orElseThrow();
+        List<List<String>> tokens = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            List<String> clientTokens = new ArrayList<>(REQUESTS_PER_CLIENT);
+            for (int j = 0; j < REQUESTS_PER_CLIENT; j++) {
+                int number = users.incrementAndGet();
+                User user = new User();
+                user.setEmail("pool" + number + "@gmail.com");
+                user.setFirstName("Pool");
+                user.setLastName("User");
+                user.setPassword("Password111");
+                user.setTelegramChatId("pool-chat-" + number);
+                user.setRoles(Set.of(customer));
+                clientTokens.add(jwtUtil.generateToken(userRepository.save(user)));
+            }
+            tokens.add(clientTokens);
+        }
+        return tokens;
+    }
+}
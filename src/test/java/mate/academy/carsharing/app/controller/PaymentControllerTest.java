@@ -131,6 +131,32 @@ public class PaymentControllerTest {
                 .andExpect(jsonPath("$.sessionUrl").exists());
     }
 
+    @Test
+    @DisplayName("PaymentSuccess: should return 202 while the webhook hasn't confirmed payment")
+    void paymentSuccess_shouldReturnAccepted_whenPending() throws Exception {
+        createPayment("pending-session", Payment.Status.PENDING);
+
+        mockMvc.perform(get("/payments/success")
+                        .param("session_id", "pending-session")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + managerJwtToken))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.sessionId").value("pending-session"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("PaymentSuccess: should return 200 for a confirmed payment")
+    void paymentSuccess_shouldReturnOk_whenPaid() throws Exception {
+        createPayment("paid-session", Payment.Status.PAID);
+
+        mockMvc.perform(get("/payments/success")
+                        .param("session_id", "paid-session")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + managerJwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PAID"))
+                .andExpect(jsonPath("$.message").value("Payment success processed"));
+    }
+
     @Test
     @DisplayName("PaymentCancel: should cancel pending payment")
     void paymentCancel_shouldCancelPayment() throws Exception {
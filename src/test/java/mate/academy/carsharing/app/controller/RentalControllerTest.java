@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -107,6 +108,17 @@ public class RentalControllerTest {
                 .andExpect(jsonPath("$.carId").value(1));
     }
 
+    @Test
+    @DisplayName("GetRentalQuote: should return the amount due without creating a session.")
+    void getRentalQuote_shouldReturnQuote() throws Exception {
+        mockMvc.perform(get("/rentals/1/quote")
+                        .header("Authorization", "Bearer " + tokenCustomer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rentalId").value(1))
+                .andExpect(jsonPath("$.total").exists())
+                .andExpect(jsonPath("$.currency").value("usd"));
+    }
+
     @Test
     @DisplayName("GetAllActiveRentals: should return paginated list of active rentals.")
     void getAllActiveRentals_shouldReturnPage() throws Exception {
@@ -119,6 +131,22 @@ public class RentalControllerTest {
                 .andExpect(jsonPath("$.content[0].isActive").value(true));
     }
 
+    @Test
+    @DisplayName("GetAllActiveRentals: should return Not Modified (304) for an unchanged page.")
+    void getAllActiveRentals_IfNoneMatch_shouldReturnNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/rentals/active")
+                        .header("Authorization", "Bearer " + tokenManager))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/rentals/active")
+                        .header("Authorization", "Bearer " + tokenManager)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     @DisplayName("CloseRental: should return rental with actualReturnDate set.")
     void closeRental_shouldReturnActualReturnDate() throws Exception {
@@ -0,0 +1,213 @@
+package mate.academy.carsharing.app.controller;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.answersWithDelay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.stripe.model.checkout.Session;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.config.StripeMockConfig;
+import mate.academy.carsharing.app.dto.payment.PaymentRequestDto;
+import mate.academy.carsharing.app.dto.rental.CreateRentalRequestDto;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Payment;
+import mate.academy.carsharing.app.model.Role;
+import mate.academy.carsharing.app.model.User;
+import mate.academy.carsharing.app.repository.CarRepository;
+import mate.academy.carsharing.app.repository.RoleRepository;
+import mate.academy.carsharing.app.repository.UserRepository;
+import mate.academy.carsharing.app.security.JwtUtil;
+import mate.academy.carsharing.app.service.StripePaymentService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=20",
+        "spring.datasource.hikari.maximum-pool-size=50",
+        "scheduling.enabled=true",
+        "telegram.outbox.poll-interval-ms=100",
+        "telegram.notification.per-chat-interval-ms=0"
+})
+@Import(StripeMockConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+abstract class SlowBackendsLoadTest {
+    private static final int CUSTOMERS = Integer.getInteger("benchmark.customers", 200);
+    private static final int STRIPE_DELAY_MILLIS = 300;
+    private static final int TELEGRAM_DELAY_MILLIS = 200;
+    private static final long CHECKOUT_TIMEOUT_MILLIS = 60_000;
+    private static final long DELIVERY_TIMEOUT_MILLIS = 120_000;
+
+    private static WireMockServer telegram;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private StripePaymentService stripePaymentService;
+
+    private Long carId;
+
+    @BeforeAll
+    static void startTelegram() {
+        telegram = new WireMockServer(options().dynamicPort());
+        telegram.start();
+        telegram.stubFor(WireMock.post(urlPathMatching("/bot.*/sendMessage"))
+                .willReturn(aResponse().withStatus(200).withFixedDelay(TELEGRAM_DELAY_MILLIS)));
+    }
+
+    @AfterAll
+    static void stopTelegram() {
+        telegram.stop();
+    }
+
+    @DynamicPropertySource
+    static void registerProperties(DynamicPropertyRegistry registry) {
+        registry.add("telegram.api.base-url", () -> "http://localhost:" + telegram.port());
+    }
+
+    @Test
+    @DisplayName("Concurrent checkouts against slow Stripe and Telegram backends")
+    void checkout_shouldScaleWithConcurrentCustomers() throws Exception {
+        AtomicInteger sessions = new AtomicInteger();
+        Mockito.when(stripePaymentService.createSession(Mockito.any()))
+                .thenAnswer(answersWithDelay(STRIPE_DELAY_MILLIS, invocation -> {
+                    Session session = new Session();
+                    session.setId("cs_load_" + sessions.incrementAndGet());
+                    session.setUrl("https://checkout.stripe.com");
+                    return session;
+                }));
+        List<String> tokens = seed();
+
+        long start = System.nanoTime();
+        try (HttpClient client = HttpClient.newHttpClient();
+                ExecutorService customers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> checkouts = new ArrayList<>(CUSTOMERS);
+            for (String token : tokens) {
+                checkouts.add(customers.submit(() -> checkout(client, token)));
+            }
+            for (Future<Integer> checkout : checkouts) {
+                assertThat(checkout.get()).isEqualTo(201);
+            }
+        }
+        long checkedOut = System.nanoTime();
+        long deadline = System.currentTimeMillis() + DELIVERY_TIMEOUT_MILLIS;
+        while (sentMessages() < CUSTOMERS && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        long delivered = System.nanoTime();
+
+        log.info("{}: {} checkouts in {} ms, {} notifications delivered {} ms later", mode(),
+                CUSTOMERS, TimeUnit.NANOSECONDS.toMillis(checkedOut - start), sentMessages(),
+                TimeUnit.NANOSECONDS.toMillis(delivered - checkedOut));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(checkedOut - start))
+                .isLessThan(CHECKOUT_TIMEOUT_MILLIS);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(delivered - checkedOut))
+                .isLessThan(DELIVERY_TIMEOUT_MILLIS);
+        TimeUnit.MILLISECONDS.sleep(TELEGRAM_DELAY_MILLIS * 2L);
+        assertThat(sentMessages()).isEqualTo(CUSTOMERS);
+    }
+
+    protected abstract String mode();
+
+    private int sentMessages() {
+        return telegram.countRequestsMatching(postRequestedFor(
+                urlPathMatching("/bot.*/sendMessage")).build()).getCount();
+    }
+
+    private int checkout(HttpClient client, String token) throws Exception {
+        String rental = post(client, token, "/rentals",
+                new CreateRentalRequestDto(LocalDate.now().plusDays(3), carId));
+        Long rentalId = objectMapper.readTree(rental).get("id").asLong();
+        HttpResponse<String> payment = send(client, token, "/payments/create",
+                new PaymentRequestDto(rentalId, Payment.Type.PAYMENT));
+        return payment.statusCode();
+    }
+
+    private String post(HttpClient client, String token, String path, Object body)
+            throws Exception {
+        HttpResponse<String> response = send(client, token, path, body);
+        assertThat(response.statusCode()).isEqualTo(201);
+        return response.body();
+    }
+
+    private HttpResponse<String> send(HttpClient client, String token, String path,
+                                      Object body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private List<String> seed() {
+        Car car = new Car();
+        car.setBrand("Audi");
+        car.setModel("Q8");
+        car.setType(Car.Type.SUV);
+        car.setInventory(CUSTOMERS);
+        car.setDailyFee(new BigDecimal("520.00"));
+        carId = carRepository.save(car).getId();
+
+        Role customer = roleRepository.findByName(Role.RoleName.CUSTOMER).orElseThrow();
+        List<String> tokens = new ArrayList<>(CUSTOMERS);
+        for (int i = 0; i < CUSTOMERS; i++) {
+            User user = new User();
+            user.setEmail("load" + i + "@gmail.com");
+            user.setFirstName("Load");
+            user.setLastName("User");
+            user.setPassword("Password111");
+            user.setTelegramChatId("load-chat-" + i);
+            user.setRoles(Set.of(customer));
+            tokens.add(jwtUtil.generateToken(userRepository.save(user)));
+        }
+        return tokens;
+    }
+}
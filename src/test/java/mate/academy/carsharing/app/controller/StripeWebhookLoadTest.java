@@ -0,0 +1,101 @@
+package mate.academy.carsharing.app.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.example.StripeEventUtilTest;
+import mate.academy.carsharing.app.service.StripeWebhookService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StripeWebhookLoadTest {
+    private static final int PAYMENTS = 10_000;
+    private static final int DUPLICATE_EVERY_NTH_EVENT = 10;
+    private static final int BATCH_SIZE = 500;
+    private static final long FIRST_ID = 1_000_000L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StripeWebhookService stripeWebhookService;
+
+    @Test
+    @DisplayName("Fake Stripe events are ingested and confirmed in batches without Stripe")
+    void webhook_shouldConfirmPaymentsFromFakeEvents() throws Exception {
+        seed();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < PAYMENTS; i++) {
+            sendEvent("evt_load_" + i, "cs_load_" + i);
+            if (i % DUPLICATE_EVERY_NTH_EVENT == 0) {
+                sendEvent("evt_load_" + i, "cs_load_" + i);
+            }
+        }
+        long ingested = System.nanoTime();
+        int processed;
+        do {
+            processed = stripeWebhookService.processPendingEvents(BATCH_SIZE);
+        } while (processed == BATCH_SIZE);
+        long confirmed = System.nanoTime();
+
+        log.info("{} events ingested in {} ms, payments confirmed in {} ms", PAYMENTS,
+                TimeUnit.NANOSECONDS.toMillis(ingested - start),
+                TimeUnit.NANOSECONDS.toMillis(confirmed - ingested));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM payments WHERE status = 'PAID' AND id >= ?",
+                Long.class, FIRST_ID)).isEqualTo(PAYMENTS);
+    }
+
+    private void sendEvent(String eventId, String sessionId) throws Exception {
+        String payload = StripeEventUtilTest.checkoutSessionCompleted(
+                eventId, sessionId, "paid");
+        mockMvc.perform(post("/payments/webhook")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Stripe-Signature", StripeEventUtilTest.sign(
+                                payload, StripeEventUtilTest.WEBHOOK_SECRET))
+                        .content(payload))
+                .andExpect(status().isOk());
+    }
+
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO cars (id, brand, model, type, inventory, daily_fee, "
+                + "is_deleted) VALUES (?, 'Audi', 'Q8', 'SUV', 1, 700.00, false)", FIRST_ID);
+        jdbcTemplate.update("INSERT INTO users (id, email, first_name, last_name, password, "
+                + "telegram_chat_id) VALUES (?, 'load@gmail.com', 'Load', 'User', 'Password', "
+                + "'load-chat')", FIRST_ID);
+        jdbcTemplate.update("INSERT INTO rentals (id, rental_date, return_date, car_id, "
+                + "user_id, is_active) VALUES (?, CURRENT_DATE, CURRENT_DATE, ?, ?, true)",
+                FIRST_ID, FIRST_ID, FIRST_ID);
+        List<Object[]> payments = new ArrayList<>(PAYMENTS);
+        for (int i = 0; i < PAYMENTS; i++) {
+            payments.add(new Object[] {FIRST_ID + i, "cs_load_" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO payments (id, status, type, rental_id, "
+                + "session_url, session_id, amount) VALUES (?, 'PENDING', 'PAYMENT', "
+                + FIRST_ID + ", 'https://checkout.stripe.com', ?, 700.00)", payments);
+    }
+}
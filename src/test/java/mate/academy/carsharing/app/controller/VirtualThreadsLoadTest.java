@@ -0,0 +1,14 @@
+package mate.academy.carsharing.app.controller;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadsLoadTest extends SlowBackendsLoadTest {
+
+    @Override
+    protected String mode() {
+        return "Virtual threads";
+    }
+}
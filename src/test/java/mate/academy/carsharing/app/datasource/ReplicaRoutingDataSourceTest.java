@@ -0,0 +1,132 @@
+package mate.academy.carsharing.app.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+public class ReplicaRoutingDataSourceTest {
+    private static final String MYSQL_IMAGE = "mysql:8.0.36";
+    private static final String PASSWORD = "password";
+    private static final Network NETWORK = Network.newNetwork();
+
+    @Container
+    private static final MySQLContainer<?> PRIMARY = new MySQLContainer<>(MYSQL_IMAGE)
+            .withUsername("root")
+            .withPassword(PASSWORD)
+            .withNetwork(NETWORK)
+            .withNetworkAliases("primary")
+            .withCommand("--server-id=1", "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+
+    @Container
+    private static final MySQLContainer<?> REPLICA = new MySQLContainer<>(MYSQL_IMAGE)
+            .withUsername("root")
+            .withPassword(PASSWORD)
+            .withNetwork(NETWORK)
+            .withCommand("--server-id=2", "--gtid-mode=ON", "--enforce-gtid-consistency=ON");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @DynamicPropertySource
+    static void dataSources(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PRIMARY::getJdbcUrl);
+        registry.add("spring.datasource.driver-class-name", PRIMARY::getDriverClassName);
+        registry.add("datasource.replica.url", REPLICA::getJdbcUrl);
+    }
+
+    @BeforeAll
+    static void startReplication() throws SQLException {
+        executeOnReplica("CHANGE REPLICATION SOURCE TO SOURCE_HOST = 'primary', "
+                + "SOURCE_USER = 'root', SOURCE_PASSWORD = '" + PASSWORD + "', "
+                + "SOURCE_AUTO_POSITION = 1, GET_SOURCE_PUBLIC_KEY = 1");
+        executeOnReplica("START REPLICA");
+    }
+
+    @AfterEach
+    void resumeReplication() throws SQLException {
+        executeOnReplica("START REPLICA");
+    }
+
+    @Test
+    @DisplayName("Routes read-only transactions to the replica and the rest to the primary")
+    void readOnlyTransaction_shouldUseReplica() {
+        replicaLagMonitor.checkLag();
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isTrue();
+        assertThat(serverId(true)).isEqualTo(2);
+        assertThat(serverId(false)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Falls back to the primary when the replica stops replicating")
+    void readOnlyTransaction_ReplicationStopped_shouldUsePrimary() throws SQLException {
+        executeOnReplica("STOP REPLICA SQL_THREAD");
+        replicaLagMonitor.checkLag();
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+        assertThat(serverId(true)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Keeps read-only transactions that fill a cache on the primary")
+    void readOnlyTransaction_OnPrimary_shouldUsePrimary() {
+        replicaLagMonitor.checkLag();
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isTrue();
+        assertThat(ReplicaRoutingDataSource.onPrimary(() -> serverId(true))).isEqualTo(1);
+        assertThat(serverId(true)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Keeps read-only repository calls inside a read-write transaction on the primary")
+    void readOnlyTransaction_InsideReadWriteTransaction_shouldUsePrimary() {
+        replicaLagMonitor.checkLag();
+
+        assertThat(replicaLagMonitor.isReplicaAvailable()).isTrue();
+        Integer serverId = new TransactionTemplate(transactionManager)
+                .execute(status -> serverId(true));
+        assertThat(serverId).isEqualTo(1);
+    }
+
+    private Integer serverId(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource)
+                .queryForObject("SELECT @@server_id", Integer.class));
+    }
+
+    private static void executeOnReplica(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                REPLICA.getJdbcUrl(), REPLICA.getUsername(), PASSWORD);
+                Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
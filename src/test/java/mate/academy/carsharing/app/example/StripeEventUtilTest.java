@@ -0,0 +1,42 @@
+package mate.academy.carsharing.app.example;
+
+import com.stripe.Stripe;
+import com.stripe.net.Webhook;
+import java.security.GeneralSecurityException;
+
+public class StripeEventUtilTest {
+    public static final String WEBHOOK_SECRET = "whsec_test_secret";
+
+    public static String checkoutSessionCompleted(String eventId, String sessionId,
+                                                  String paymentStatus) {
+        return String.format("""
+                {
+                  "id": "%s",
+                  "object": "event",
+                  "api_version": "%s",
+                  "created": %d,
+                  "type": "checkout.session.completed",
+                  "data": {
+                    "object": {
+                      "id": "%s",
+                      "object": "checkout.session",
+                      "status": "complete",
+                      "payment_status": "%s"
+                    }
+                  }
+                }
+                """, eventId, Stripe.API_VERSION, Webhook.Util.getTimeNow(), sessionId,
+                paymentStatus);
+    }
+
+    public static String sign(String payload, String secret) {
+        long timestamp = Webhook.Util.getTimeNow();
+        try {
+            String signature = Webhook.Util.computeHmacSha256(
+                    secret, timestamp + "." + payload);
+            return "t=" + timestamp + "," + Webhook.Signature.EXPECTED_SCHEME + "=" + signature;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Can't sign the Stripe event", e);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package mate.academy.carsharing.app.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import mate.academy.carsharing.app.config.StripeMockConfig;
+import mate.academy.carsharing.app.dto.IdempotentResponseDto;
+import mate.academy.carsharing.app.dto.payment.PaymentRequestDto;
+import mate.academy.carsharing.app.dto.rental.CreateRentalRequestDto;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Payment;
+import mate.academy.carsharing.app.model.Rental;
+import mate.academy.carsharing.app.model.User;
+import mate.academy.carsharing.app.repository.CarRepository;
+import mate.academy.carsharing.app.repository.IdempotencyKeyRepository;
+import mate.academy.carsharing.app.repository.RentalRepository;
+import mate.academy.carsharing.app.repository.UserRepository;
+import mate.academy.carsharing.app.service.IdempotencyService;
+import mate.academy.carsharing.app.service.StripePaymentService;
+import mate.academy.carsharing.app.service.impl.IdempotencyServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@Import(StripeMockConfig.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@WithMockUser(username = IdempotencyFilterTest.EMAIL, authorities = "ROLE_CUSTOMER")
+public class IdempotencyFilterTest {
+    static final String EMAIL = "idempotency@gmail.com";
+    private static final int INVENTORY = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private StripePaymentService stripePaymentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    private Car car;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        clearInvocations(stripePaymentService);
+
+        car = new Car();
+        car.setBrand("Audi");
+        car.setModel("Q8");
+        car.setType(Car.Type.SUV);
+        car.setInventory(INVENTORY);
+        car.setDailyFee(new BigDecimal("520.00"));
+        carRepository.save(car);
+
+        user = new User();
+        user.setEmail(EMAIL);
+        user.setFirstName("Idem");
+        user.setLastName("Potent");
+        user.setPassword("Password111");
+        user.setTelegramChatId("idempotency-chat");
+        userRepository.save(user);
+    }
+
+    @Test
+    @DisplayName("POST /rentals: a retried request is replayed without renting another car.")
+    void createRental_SameIdempotencyKey_ShouldReplayResponse() throws Exception {
+        String request = objectMapper.writeValueAsString(
+                new CreateRentalRequestDto(LocalDate.now().plusDays(3), car.getId()));
+
+        MvcResult first = mockMvc.perform(post("/rentals")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "rental-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isCreated())
+                .andReturn();
+        MvcResult retry = mockMvc.perform(post("/rentals")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "rental-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn();
+
+        assertThat(retry.getResponse().getContentAsString())
+                .isEqualTo(first.getResponse().getContentAsString());
+        entityManager.clear();
+        assertThat(carRepository.findById(car.getId()).orElseThrow().getInventory())
+                .isEqualTo(INVENTORY - 1);
+    }
+
+    @Test
+    @DisplayName("Claim: a key left in progress by a dead request is free again after its lease.")
+    void claim_LeaseExpired_ShouldAllowRetryUntilCompleted() {
+        IdempotencyService idempotencyService =
+                new IdempotencyServiceImpl(idempotencyKeyRepository, 10, 86_400_000, 0);
+
+        assertThat(idempotencyService.claim("abandoned-key")).isTrue();
+        assertThat(idempotencyService.claim("abandoned-key")).isTrue();
+
+        idempotencyService.complete("abandoned-key",
+                new IdempotentResponseDto(201, MediaType.APPLICATION_JSON_VALUE, "{}"));
+        assertThat(idempotencyService.claim("abandoned-key")).isFalse();
+    }
+
+    @Test
+    @DisplayName("POST /payments/create: a retried request does not create another session.")
+    void createPaymentSession_SameIdempotencyKey_ShouldCallStripeOnce() throws Exception {
+        Rental rental = new Rental();
+        rental.setCar(car);
+        rental.setUser(user);
+        rental.setRentalDate(LocalDate.now().minusDays(2));
+        rental.setReturnDate(LocalDate.now().plusDays(2));
+        rental.setIsActive(true);
+        rentalRepository.save(rental);
+        String request = objectMapper.writeValueAsString(
+                new PaymentRequestDto(rental.getId(), Payment.Type.PAYMENT));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/payments/create")
+                            .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "payment-key")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(request))
+                    .andExpect(status().isCreated());
+        }
+
+        verify(stripePaymentService, times(1)).createSession(any());
+    }
+}
@@ -0,0 +1,70 @@
+package mate.academy.carsharing.app.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import java.math.BigDecimal;
+import mate.academy.carsharing.app.config.MetricsConfig;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.repository.CarRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=prometheus",
+        "management.observations.annotations.enabled=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@WithMockUser(authorities = "ROLE_CUSTOMER")
+public class QueryCountFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Test
+    @DisplayName("doFilter(): records the queries of a request and exposes service timers")
+    void doFilter_shouldRecordQueriesPerRequest() throws Exception {
+        Car car = new Car();
+        car.setBrand("Audi");
+        car.setModel("A6");
+        car.setType(Car.Type.SEDAN);
+        car.setInventory(1);
+        car.setDailyFee(new BigDecimal("300.00"));
+        Long carId = carRepository.save(car).getId();
+
+        mockMvc.perform(get("/cars/{id}", carId)).andExpect(status().isOk());
+
+        DistributionSummary queries = Metrics.globalRegistry.find(MetricsConfig.REQUEST_QUERIES)
+                .tags("method", "GET", "uri", "/cars/{id}")
+                .summary();
+        assertThat(queries).isNotNull();
+        assertThat(queries.totalAmount()).isPositive();
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThat(scrape)
+                .contains("http_server_requests_queries_bucket")
+                .contains("carsharing_service_seconds_bucket")
+                .contains("class=\"mate.academy.carsharing.app.service.impl.CarServiceImpl\"")
+                .contains("hibernate_statements_total");
+    }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Optional;
+import mate.academy.carsharing.app.dto.payment.PaymentWithSessionDto;
 import mate.academy.carsharing.app.model.Car;
 import mate.academy.carsharing.app.model.Payment;
 import mate.academy.carsharing.app.model.Rental;
@@ -17,6 +18,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 @DataJpaTest
 public class PaymentRepositoryTest {
@@ -88,6 +90,30 @@ public class PaymentRepositoryTest {
                 .getEmail()).isEqualTo("max222@gmail.com");
     }
 
+    @Test
+    @DisplayName("Project payments of a user straight into response DTOs")
+    void findAllPaymentDtosByUserId_shouldReturnPageOfDtos() {
+        Page<PaymentWithSessionDto> payments = paymentRepository.findAllPaymentDtosByUserId(
+                user.getId(), PageRequest.of(0, 10, Sort.by("id")));
+
+        assertThat(payments.getTotalElements()).isEqualTo(1);
+        assertThat(payments.getContent()).containsExactly(new PaymentWithSessionDto(
+                payment.getId(), "PENDING", "PAYMENT", rental.getId(),
+                new BigDecimal("100.00"), "session-123"));
+        assertThat(paymentRepository.findAllPaymentDtosByUserId(
+                user.getId() + 1, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Project all payments straight into response DTOs")
+    void findAllPaymentDtos_shouldReturnPageOfDtos() {
+        Page<PaymentWithSessionDto> payments = paymentRepository.findAllPaymentDtos(
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "amount")));
+
+        assertThat(payments.getTotalElements()).isEqualTo(1);
+        assertThat(payments.getContent().get(0).sessionId()).isEqualTo("session-123");
+    }
+
     @Test
     @DisplayName("Find and return payment by sessionId, if it exists")
     void findBySessionId_shouldReturnPayment_whenSessionExists() {
@@ -6,6 +6,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import mate.academy.carsharing.app.dto.rental.RentalResponseDto;
 import mate.academy.carsharing.app.model.Car;
 import mate.academy.carsharing.app.model.Rental;
 import mate.academy.carsharing.app.model.User;
@@ -17,6 +18,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.jdbc.Sql;
 
 @DataJpaTest
@@ -90,6 +92,17 @@ class RentalRepositoryTest {
         assertThat(activeRentals.getContent().get(0).getId()).isEqualTo(rental1.getId());
     }
 
+    @Test
+    @DisplayName("Should project active rentals straight into response DTOs")
+    void findActiveRentalDtos_ShouldReturnActiveRentalDtos() {
+        Page<RentalResponseDto> activeRentals =
+                rentalRepository.findActiveRentalDtos(PageRequest.of(0, 10, Sort.by("id")));
+        assertThat(activeRentals.getTotalElements()).isEqualTo(1);
+        assertThat(activeRentals.getContent()).containsExactly(new RentalResponseDto(
+                rental1.getId(), rental1.getRentalDate(), rental1.getReturnDate(),
+                car.getId(), true));
+    }
+
     @Test
     @DisplayName("Should return rental if exists by rental ID and user ID")
     void findByIdAndUserId_ShouldReturnRentalIfExists() {
@@ -0,0 +1,155 @@
+package mate.academy.carsharing.app.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Sql(scripts = "/db/delete-all-data-db.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/db/delete-all-data-db.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class RepositoryIndexBenchmarkTest {
+    private static final int RENTALS = 1_000_000;
+    private static final int USERS = 10_000;
+    private static final int PAYMENT_EVERY_NTH_RENTAL = 5;
+    private static final int ACTIVE_EVERY_NTH_RENTAL = 50;
+    private static final int OVERDUE_EVERY_NTH_RENTAL = 1_000;
+    private static final int CHUNK = 5_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+    private static final Map<String, String> INDEXES = new LinkedHashMap<>();
+
+    static {
+        INDEXES.put("idx_rentals_user_id_is_active", "rentals (user_id, is_active)");
+        INDEXES.put("idx_rentals_is_active_return_date", "rentals (is_active, return_date)");
+        INDEXES.put("idx_rentals_return_date", "rentals (return_date)");
+        INDEXES.put("idx_payments_rental_id", "payments (rental_id)");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Test
+    @DisplayName("Hot rental and payment lookups are faster with the secondary indexes")
+    void hotLookups_shouldBeFasterWithIndexes() {
+        seed();
+
+        INDEXES.keySet().forEach(this::dropIndex);
+        Map<String, Long> before = measureHotLookups();
+
+        INDEXES.forEach(this::createIndex);
+        Map<String, Long> after = measureHotLookups();
+
+        before.forEach((query, nanos) -> {
+            log.info("{}: {} us/op without indexes, {} us/op with indexes", query,
+                    TimeUnit.NANOSECONDS.toMicros(nanos),
+                    TimeUnit.NANOSECONDS.toMicros(after.get(query)));
+            assertThat(after.get(query)).isLessThan(nanos);
+        });
+    }
+
+    private Map<String, Long> measureHotLookups() {
+        LocalDate today = LocalDate.now();
+        Map<String, Long> results = new LinkedHashMap<>();
+        results.put("existsByUserIdAndIsActiveIsTrue", measure(i ->
+                rentalRepository.existsByUserIdAndIsActiveIsTrue(randomUserId())));
+        results.put("findByIsActiveTrue", measure(i ->
+                rentalRepository.findByIsActiveTrue(PageRequest.of(i % 10, 20))));
+        results.put("findAllByReturnDateLessThan", measure(i ->
+                rentalRepository.findAllByReturnDateLessThan(today)));
+        results.put("findAllByRental_User_Id", measure(i ->
+                paymentRepository.findAllByRental_User_Id(randomUserId(), PageRequest.of(0, 20))));
+        results.put("findAllByRentalId", measure(i ->
+                paymentRepository.findAllByRentalId(
+                        (long) ThreadLocalRandom.current().nextInt(1, RENTALS + 1))));
+        return results;
+    }
+
+    private long measure(IntConsumer query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.accept(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.accept(i);
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO cars (id, brand, model, type, inventory, daily_fee, "
+                + "is_deleted) VALUES (1, 'Audi', 'Q8', 'SUV', 1000000, 700.00, false)");
+        insertInChunks("INSERT INTO users (id, email, first_name, last_name, password, "
+                + "telegram_chat_id) VALUES ", USERS, id -> String.format(
+                "(%d, 'bench%d@gmail.com', 'Bench', 'User', 'Password', 'chat-%d')",
+                id, id, id));
+
+        LocalDate today = LocalDate.now();
+        insertInChunks("INSERT INTO rentals (id, rental_date, return_date, car_id, user_id, "
+                + "is_active) VALUES ", RENTALS, id -> {
+                    LocalDate returnDate = id % OVERDUE_EVERY_NTH_RENTAL == 0
+                            ? today.minusDays(1)
+                            : today.plusDays(1 + id % 365);
+                    return String.format("(%d, '%s', '%s', 1, %d, %b)", id,
+                            returnDate.minusDays(7), returnDate, 1 + id % USERS,
+                            id % ACTIVE_EVERY_NTH_RENTAL == 0);
+                });
+        insertInChunks("INSERT INTO payments (id, status, type, rental_id, session_url, "
+                + "session_id, amount) VALUES ", RENTALS / PAYMENT_EVERY_NTH_RENTAL,
+                id -> String.format("(%d, 'PAID', 'PAYMENT', %d, 'https://stripe.com/s/%d', "
+                        + "'sess_%d', 700.00)", id, id * PAYMENT_EVERY_NTH_RENTAL, id, id));
+        jdbcTemplate.execute("ANALYZE TABLE users, rentals, payments");
+    }
+
+    private void insertInChunks(String insert, int rows, RowRenderer renderer) {
+        for (int from = 1; from <= rows; from += CHUNK) {
+            StringJoiner values = new StringJoiner(",", insert, "");
+            for (int id = from; id < Math.min(from + CHUNK, rows + 1); id++) {
+                values.add(renderer.render(id));
+            }
+            jdbcTemplate.execute(values.toString());
+        }
+    }
+
+    private void dropIndex(String name) {
+        String table = INDEXES.get(name).split(" ")[0];
+        jdbcTemplate.execute("DROP INDEX " + name + " ON " + table);
+    }
+
+    private void createIndex(String name, String definition) {
+        jdbcTemplate.execute("CREATE INDEX " + name + " ON " + definition);
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextInt(1, USERS + 1);
+    }
+
+    @FunctionalInterface
+    private interface RowRenderer {
+        String render(int id);
+    }
+}
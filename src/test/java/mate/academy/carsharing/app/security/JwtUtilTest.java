@@ -0,0 +1,88 @@
+package mate.academy.carsharing.app.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.JwtException;
+import mate.academy.carsharing.app.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+class JwtUtilTest {
+    private static final String SECRET =
+            "5a2d7e21bfc7a6937a8429f3e89c0e15f2d3c7a8d1b2c3e4f5a6b7c8d9e0f123";
+    private static final long EXPIRATION = 5_000_000;
+
+    private final UserDetails userDetails = org.springframework.security.core.userdetails.User
+            .withUsername("bob@gmail.com")
+            .password("password")
+            .authorities("ROLE_CUSTOMER")
+            .build();
+
+    @Test
+    @DisplayName("parse(): should return the username and authorities from the token")
+    void parse_shouldReturnPrincipal() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, EXPIRATION, 0, EXPIRATION);
+
+        JwtPrincipal principal = jwtUtil.parse(jwtUtil.generateToken(userDetails));
+
+        assertThat(principal.username()).isEqualTo("bob@gmail.com");
+        assertThat(principal.authorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_CUSTOMER");
+    }
+
+    @Test
+    @DisplayName("parse(): should return the user id embedded by generateToken()")
+    void parse_tokenForUserEntity_shouldReturnUserId() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, EXPIRATION, 0, EXPIRATION);
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("alice@gmail.com");
+
+        JwtPrincipal principal = jwtUtil.parse(jwtUtil.generateToken(user));
+
+        assertThat(principal.id()).isEqualTo(42L);
+        assertThat(principal.getName()).isEqualTo("alice@gmail.com");
+    }
+
+    @Test
+    @DisplayName("parse(): should return a principal without id for tokens without the id claim")
+    void parse_tokenWithoutUserId_shouldReturnPrincipalWithoutId() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, EXPIRATION, 0, EXPIRATION);
+
+        JwtPrincipal principal = jwtUtil.parse(jwtUtil.generateToken(userDetails));
+
+        assertThat(principal.id()).isNull();
+    }
+
+    @Test
+    @DisplayName("parse(): should return the cached principal for a repeated token")
+    void parse_repeatedToken_shouldReturnCachedPrincipal() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, EXPIRATION, 10, EXPIRATION);
+        String token = jwtUtil.generateToken(userDetails);
+
+        JwtPrincipal first = jwtUtil.parse(token);
+
+        assertThat(jwtUtil.parse(token)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("parse(): should throw JwtException for a tampered token")
+    void parse_tamperedToken_shouldThrowException() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, EXPIRATION, 10, EXPIRATION);
+        String token = jwtUtil.generateToken(userDetails);
+
+        assertThrows(JwtException.class, () -> jwtUtil.parse(token + "x"));
+    }
+
+    @Test
+    @DisplayName("parse(): should throw JwtException for an expired token")
+    void parse_expiredToken_shouldThrowException() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, -1000, 10, EXPIRATION);
+        String token = jwtUtil.generateToken(userDetails);
+
+        assertThrows(JwtException.class, () -> jwtUtil.parse(token));
+    }
+}
@@ -0,0 +1,12 @@
+package mate.academy.carsharing.app.service;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BatchedRentalInsertLoadTest extends RentalInsertLoadTest {
+
+    @Override
+    protected String mode() {
+        return "Batched inserts";
+    }
+}
@@ -0,0 +1,96 @@
+package mate.academy.carsharing.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import mate.academy.carsharing.app.dto.car.CarFileFormat;
+import mate.academy.carsharing.app.dto.car.CarImportErrorDto;
+import mate.academy.carsharing.app.dto.car.CarImportReportDto;
+import mate.academy.carsharing.app.repository.CarRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+public class CarBulkServiceTest {
+    @Autowired
+    private CarBulkService carBulkService;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @BeforeEach
+    void setUp() {
+        carRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("ImportCars: saves valid CSV rows and reports invalid ones by line.")
+    void importCars_Csv_ShouldSaveValidRowsAndReportInvalidOnes() throws IOException {
+        String csv = """
+                brand,model,type,inventory,dailyFee
+                Audi,Q8,SUV,2,520.00
+                Honda,Civic,SEDAN,-1,300.00
+                Toyota,Corolla,BUS,3,250.00
+                BMW,X5,SUV,4,700.00
+                """;
+
+        CarImportReportDto report = carBulkService.importCars(toStream(csv), CarFileFormat.CSV);
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(2);
+        assertThat(report.errors()).extracting(CarImportErrorDto::line).containsExactly(3L, 4L);
+        assertThat(carRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ImportCars: saves valid NDJSON rows and stops at malformed JSON.")
+    void importCars_Ndjson_ShouldStopAtMalformedJson() throws IOException {
+        String ndjson = """
+                {"brand":"Audi","model":"Q8","type":"SUV","inventory":2,"dailyFee":520.00}
+                {"brand":"","model":"Civic","type":"SEDAN","inventory":1,"dailyFee":300.00}
+                {"brand":"BMW","model":"X5","type":"SUV","inventory":4,"dailyFee":700.00}
+                {"brand":"Kia",
+                """;
+
+        CarImportReportDto report = carBulkService.importCars(
+                toStream(ndjson), CarFileFormat.NDJSON);
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(2);
+        assertThat(report.errors().get(0).line()).isEqualTo(2L);
+        assertThat(report.errors().get(0).message()).contains("brand");
+    }
+
+    @Test
+    @DisplayName("ExportCars: writes every car as CSV with a header.")
+    void exportCars_Csv_ShouldWriteAllCars() throws IOException {
+        String csv = """
+                brand,model,type,inventory,dailyFee
+                Audi,Q8,SUV,2,520.00
+                BMW,X5,SUV,4,700.00
+                """;
+        carBulkService.importCars(toStream(csv), CarFileFormat.CSV);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        carBulkService.exportCars(outputStream, CarFileFormat.CSV);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("id,brand,model,type,inventory,dailyFee");
+        assertThat(lines[2]).endsWith(",BMW,X5,SUV,4,700.00");
+    }
+
+    private ByteArrayInputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
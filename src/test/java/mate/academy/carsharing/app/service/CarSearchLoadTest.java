@@ -0,0 +1,98 @@
+package mate.academy.carsharing.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.dto.car.CarSearchParametersDto;
+import mate.academy.carsharing.app.dto.car.CarSearchResultDto;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.repository.CarRepository;
+import mate.academy.carsharing.app.repository.CarSpecifications;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@SpringBootTest
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CarSearchLoadTest {
+    private static final int CARS = Integer.getInteger("benchmark.cars", 1_000_000);
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int ROUNDS = 20;
+    private static final long FIRST_ID = 1_000_000L;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Keyset search stays fast at deep offsets where offset pagination degrades")
+    void searchCars_shouldOutperformDeepOffsetPagination() {
+        seed();
+        CarSearchParametersDto firstPage = new CarSearchParametersDto(
+                Car.Type.SUV, null, null, null, true, null, null, null, PAGE_SIZE);
+        long deepPage = carRepository.count(CarSpecifications.search(firstPage)) / PAGE_SIZE - 1;
+        PageRequest offsetRequest = PageRequest.of((int) deepPage, PAGE_SIZE,
+                Sort.by(Sort.Direction.ASC, "id"));
+        Page<Car> offsetPage = carRepository.findAll(
+                CarSpecifications.search(firstPage), offsetRequest);
+        Long after = offsetPage.getContent().get(0).getId() - 1;
+        CarSearchParametersDto keysetPage = new CarSearchParametersDto(
+                Car.Type.SUV, null, null, null, true, null, null, after, PAGE_SIZE);
+
+        long offsetStart = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            carRepository.findAll(CarSpecifications.search(firstPage), offsetRequest);
+        }
+        long keysetStart = System.nanoTime();
+        CarSearchResultDto result = null;
+        for (int i = 0; i < ROUNDS; i++) {
+            result = carService.searchCars(keysetPage);
+        }
+        long end = System.nanoTime();
+
+        log.info("{} cars, page {}: offset {} us, keyset {} us per query", CARS, deepPage,
+                TimeUnit.NANOSECONDS.toMicros((keysetStart - offsetStart) / ROUNDS),
+                TimeUnit.NANOSECONDS.toMicros((end - keysetStart) / ROUNDS));
+        assertThat(result.cars()).hasSize(offsetPage.getNumberOfElements());
+        assertThat(result.cars().get(0).id()).isEqualTo(offsetPage.getContent().get(0).getId());
+    }
+
+    private void seed() {
+        Car.Type[] types = Car.Type.values();
+        List<Object[]> cars = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < CARS; i++) {
+            cars.add(new Object[] {FIRST_ID + i, "Brand " + i % 50,
+                    types[i % types.length].name(), i % 3, 100 + i % 900});
+            if (cars.size() == BATCH_SIZE) {
+                insert(cars);
+                cars.clear();
+            }
+        }
+        insert(cars);
+    }
+
+    private void insert(List<Object[]> cars) {
+        jdbcTemplate.batchUpdate("INSERT INTO cars (id, brand, model, type, inventory, "
+                + "daily_fee, is_deleted) VALUES (?, ?, 'Model', ?, ?, ?, false)", cars);
+    }
+}
@@ -1,12 +1,16 @@
 package mate.academy.carsharing.app.service;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import mate.academy.carsharing.app.dto.car.CarDto;
+import mate.academy.carsharing.app.dto.car.CarSearchParametersDto;
+import mate.academy.carsharing.app.dto.car.CarSearchResultDto;
 import mate.academy.carsharing.app.dto.car.CreateCarDto;
 import mate.academy.carsharing.app.dto.car.UpdateCarInventoryDto;
+import mate.academy.carsharing.app.event.CarInventoryChangedEvent;
 import mate.academy.carsharing.app.exception.EntityNotFoundException;
 import mate.academy.carsharing.app.model.Car;
 import mate.academy.carsharing.app.repository.CarRepository;
@@ -31,6 +35,9 @@ public class CarServiceTest {
     @Autowired
     private CarRepository carRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private CreateCarDto sampleCreateCarDto;
 
     @BeforeEach
@@ -66,7 +73,7 @@ public class CarServiceTest {
     void getAllCars_ShouldReturnPageOfCarDto() {
         carService.addCar(sampleCreateCarDto);
 
-        Page<CarDto> page = carService.getAllCars(PageRequest.of(0, 10));
+        Page<CarDto> page = carService.getAllCars(PageRequest.of(0, 10)).body();
 
         assertThat(page).isNotNull();
         assertThat(page.getTotalElements()).isEqualTo(1);
@@ -78,7 +85,7 @@ public class CarServiceTest {
     void findCarById_ShouldReturnCarDto_WhenCarExists() {
         CarDto savedCar = carService.addCar(sampleCreateCarDto);
 
-        CarDto found = carService.findCarById(savedCar.id());
+        CarDto found = carService.findCarById(savedCar.id()).body();
 
         assertThat(found).isNotNull();
         assertThat(found.id()).isEqualTo(savedCar.id());
@@ -139,4 +146,56 @@ public class CarServiceTest {
     void deleteCarById_ShouldThrowException_WhenCarNotFound() {
         assertThrows(EntityNotFoundException.class, () -> carService.deleteCarById(999L));
     }
+
+    @Test
+    @DisplayName("FindCarById: serves the cached car until it is updated.")
+    void findCarById_ShouldReturnCachedCar_UntilCarIsUpdated() {
+        CarDto savedCar = carService.addCar(sampleCreateCarDto);
+        carService.findCarById(savedCar.id());
+
+        carRepository.incrementInventory(savedCar.id());
+
+        assertThat(carService.findCarById(savedCar.id()).body().inventory()).isEqualTo(2);
+        carService.updateCarInventory(new UpdateCarInventoryDto(7), savedCar.id());
+        assertThat(carService.findCarById(savedCar.id()).body().inventory()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("OnCarInventoryChanged: evicts the cached car.")
+    void onCarInventoryChanged_ShouldEvictCachedCar() {
+        CarDto savedCar = carService.addCar(sampleCreateCarDto);
+        carService.findCarById(savedCar.id());
+        carRepository.decrementInventory(savedCar.id());
+        entityManager.clear();
+
+        carService.onCarInventoryChanged(new CarInventoryChangedEvent(savedCar.id()));
+
+        assertThat(carService.findCarById(savedCar.id()).body().inventory()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("SearchCars: filters cars and pages through them by the last seen id.")
+    void searchCars_ShouldFilterAndPageByLastSeenId() {
+        CarDto first = carService.addCar(sampleCreateCarDto);
+        carService.addCar(new CreateCarDto("A4", "Audi", Car.Type.SEDAN, 3,
+                new BigDecimal("300.00")));
+        CarDto second = carService.addCar(new CreateCarDto("Q7", "Audi", Car.Type.SUV, 1,
+                new BigDecimal("600.00")));
+        carService.addCar(new CreateCarDto("X5", "BMW", Car.Type.SUV, 0,
+                new BigDecimal("650.00")));
+
+        CarSearchResultDto firstPage = carService.searchCars(new CarSearchParametersDto(
+                Car.Type.SUV, null, new BigDecimal("500.00"), null, true, null, null, null, 1));
+        CarSearchResultDto secondPage = carService.searchCars(new CarSearchParametersDto(
+                Car.Type.SUV, null, new BigDecimal("500.00"), null, true,
+                null, null, firstPage.next(), 1));
+        CarSearchResultDto lastPage = carService.searchCars(new CarSearchParametersDto(
+                Car.Type.SUV, null, new BigDecimal("500.00"), null, true,
+                null, null, secondPage.next(), 1));
+
+        assertThat(firstPage.cars()).extracting(CarDto::id).containsExactly(first.id());
+        assertThat(secondPage.cars()).extracting(CarDto::id).containsExactly(second.id());
+        assertThat(lastPage.cars()).isEmpty();
+        assertThat(lastPage.next()).isNull();
+    }
 }
@@ -0,0 +1,206 @@
+package mate.academy.carsharing.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.stripe.model.checkout.Session;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import mate.academy.carsharing.app.exception.MessageDispatchException;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Payment;
+import mate.academy.carsharing.app.model.Rental;
+import mate.academy.carsharing.app.model.User;
+import mate.academy.carsharing.app.repository.CarRepository;
+import mate.academy.carsharing.app.repository.PaymentRepository;
+import mate.academy.carsharing.app.repository.RentalRepository;
+import mate.academy.carsharing.app.repository.UserRepository;
+import mate.academy.carsharing.app.service.impl.PaymentReconciliationScheduler;
+import mate.academy.carsharing.app.service.telegram.MessageDispatchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+public class PaymentReconciliationSchedulerTest {
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private StripePaymentService stripePaymentService;
+    private MessageDispatchService messageDispatchService;
+    private PaymentReconciliationScheduler scheduler;
+    private Rental rental;
+
+    @BeforeEach
+    void setUp() {
+        stripePaymentService = mock(StripePaymentService.class);
+        messageDispatchService = mock(MessageDispatchService.class);
+        scheduler = new PaymentReconciliationScheduler(paymentRepository, stripePaymentService,
+                messageDispatchService, transactionTemplate, 30, 2, 4, 60, false);
+
+        Car car = new Car();
+        car.setBrand("Audi");
+        car.setModel("Q8");
+        car.setType(Car.Type.SUV);
+        car.setInventory(2);
+        car.setDailyFee(new BigDecimal("520.00"));
+        carRepository.save(car);
+
+        User user = new User();
+        user.setEmail("reconciliation@gmail.com");
+        user.setFirstName("Recon");
+        user.setLastName("User");
+        user.setPassword("Password111");
+        user.setTelegramChatId("reconciliation-chat");
+        userRepository.save(user);
+
+        rental = new Rental();
+        rental.setCar(car);
+        rental.setUser(user);
+        rental.setRentalDate(LocalDate.now().minusDays(2));
+        rental.setReturnDate(LocalDate.now().plusDays(2));
+        rental.setIsActive(true);
+        rentalRepository.save(rental);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    @DisplayName("Reconcile: pages through stale pending payments and updates them from Stripe.")
+    void reconcile_ShouldUpdateStalePendingPayments() throws MessageDispatchException {
+        createPayment("cs_paid_1", LocalDateTime.now().minusHours(2));
+        createPayment("cs_open", LocalDateTime.now().minusHours(2));
+        createPayment("cs_expired", LocalDateTime.now().minusHours(2));
+        createPayment("cs_failing", LocalDateTime.now().minusHours(2));
+        createPayment("cs_paid_2", LocalDateTime.now().minusHours(1));
+        createPayment("cs_recent", LocalDateTime.now());
+        when(stripePaymentService.retrieveSession("cs_paid_1"))
+                .thenReturn(session("complete", "paid"));
+        when(stripePaymentService.retrieveSession("cs_paid_2"))
+                .thenReturn(session("complete", "paid"));
+        when(stripePaymentService.retrieveSession("cs_open")).thenReturn(session("open", "unpaid"));
+        when(stripePaymentService.retrieveSession("cs_expired"))
+                .thenReturn(session("expired", "unpaid"));
+        when(stripePaymentService.retrieveSession("cs_failing"))
+                .thenThrow(new RuntimeException("Stripe is down"));
+
+        scheduler.reconcile();
+        entityManager.clear();
+
+        assertThat(statusOf("cs_paid_1")).isEqualTo(Payment.Status.PAID);
+        assertThat(statusOf("cs_paid_2")).isEqualTo(Payment.Status.PAID);
+        assertThat(statusOf("cs_expired")).isEqualTo(Payment.Status.CANCELLED);
+        assertThat(statusOf("cs_open")).isEqualTo(Payment.Status.PENDING);
+        assertThat(statusOf("cs_failing")).isEqualTo(Payment.Status.PENDING);
+        assertThat(statusOf("cs_recent")).isEqualTo(Payment.Status.PENDING);
+        verify(stripePaymentService, never()).retrieveSession("cs_recent");
+        verify(messageDispatchService, times(2)).sentMessageSuccessesPayment(any());
+    }
+
+    @Test
+    @DisplayName("Reconcile: a run over its time budget stops and the next run resumes after it.")
+    void reconcile_OverTimeBudget_ShouldResumeInNextRun() {
+        scheduler.stop();
+        scheduler = new PaymentReconciliationScheduler(paymentRepository, stripePaymentService,
+                messageDispatchService, transactionTemplate, 30, 2, 4, 0, false);
+        createPayment("cs_first", LocalDateTime.now().minusHours(3));
+        createPayment("cs_second", LocalDateTime.now().minusHours(3));
+        createPayment("cs_third", LocalDateTime.now().minusHours(2));
+        when(stripePaymentService.retrieveSession(any())).thenReturn(session("open", "unpaid"));
+
+        scheduler.reconcile();
+        verify(stripePaymentService, never()).retrieveSession("cs_third");
+
+        scheduler.reconcile();
+        verify(stripePaymentService).retrieveSession("cs_third");
+        verify(stripePaymentService, times(1)).retrieveSession("cs_first");
+    }
+
+    @Test
+    @DisplayName("Reconcile: the lag is measured from the oldest pending payment on resumed runs.")
+    void reconcile_ResumedRun_ShouldMeasureLagFromOldestPendingPayment() {
+        scheduler.stop();
+        scheduler = new PaymentReconciliationScheduler(paymentRepository, stripePaymentService,
+                messageDispatchService, transactionTemplate, 30, 2, 4, 0, false);
+        createPayment("cs_first", LocalDateTime.now().minusHours(3));
+        createPayment("cs_second", LocalDateTime.now().minusHours(3));
+        createPayment("cs_third", LocalDateTime.now().minusHours(2));
+        when(stripePaymentService.retrieveSession(any())).thenReturn(session("open", "unpaid"));
+
+        scheduler.reconcile();
+        assertThat(scheduler.getLagSeconds()).isBetween(10_700L, 10_900L);
+
+        jdbcTemplate.update("UPDATE payments SET created_at = ? WHERE session_id = ?",
+                LocalDateTime.now().minusHours(5), "cs_first");
+        scheduler.reconcile();
+        verify(stripePaymentService).retrieveSession("cs_third");
+        assertThat(scheduler.getLagSeconds()).isBetween(17_900L, 18_100L);
+
+        paymentRepository.updateStatusBySessionIds(List.of("cs_first", "cs_second",
+                "cs_third"), Payment.Status.PENDING, Payment.Status.CANCELLED);
+        scheduler.reconcile();
+        assertThat(scheduler.getLagSeconds()).isZero();
+    }
+
+    private void createPayment(String sessionId, LocalDateTime createdAt) {
+        Payment payment = new Payment();
+        payment.setStatus(Payment.Status.PENDING);
+        payment.setType(Payment.Type.PAYMENT);
+        payment.setRental(rental);
+        payment.setSessionId(sessionId);
+        payment.setSessionUrl("https://checkout.stripe.com/" + sessionId);
+        payment.setAmount(new BigDecimal("1040.00"));
+        paymentRepository.saveAndFlush(payment);
+        jdbcTemplate.update("UPDATE payments SET created_at = ? WHERE id = ?",
+                createdAt, payment.getId());
+    }
+
+    private Session session(String status, String paymentStatus) {
+        Session session = new Session();
+        session.setStatus(status);
+        session.setPaymentStatus(paymentStatus);
+        return session;
+    }
+
+    private Payment.Status statusOf(String sessionId) {
+        return paymentRepository.findBySessionId(sessionId).orElseThrow().getStatus();
+    }
+}
@@ -2,6 +2,7 @@ package mate.academy.carsharing.app.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -16,6 +17,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.stripe.model.checkout.Session;
 import com.stripe.param.checkout.SessionCreateParams;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Optional;
@@ -24,8 +26,8 @@ import mate.academy.carsharing.app.dto.payment.PaymentDto;
 import mate.academy.carsharing.app.dto.payment.PaymentRequestDto;
 import mate.academy.carsharing.app.dto.payment.PaymentResponseDto;
 import mate.academy.carsharing.app.dto.payment.PaymentWithSessionDto;
+import mate.academy.carsharing.app.example.StripeEventUtilTest;
 import mate.academy.carsharing.app.exception.EntityNotFoundException;
-import mate.academy.carsharing.app.exception.MessageDispatchException;
 import mate.academy.carsharing.app.exception.PaymentException;
 import mate.academy.carsharing.app.mapper.PaymentMapper;
 import mate.academy.carsharing.app.model.Car;
@@ -39,7 +41,7 @@ import mate.academy.carsharing.app.repository.RentalRepository;
 import mate.academy.carsharing.app.repository.RoleRepository;
 import mate.academy.carsharing.app.repository.UserRepository;
 import mate.academy.carsharing.app.service.impl.PaymentServiceImpl;
-import mate.academy.carsharing.app.service.telegram.MessageDispatchService;
+import mate.academy.carsharing.app.service.pricing.PricingEngine;
 import mate.academy.carsharing.app.service.util.TimeProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -58,7 +60,6 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -81,9 +82,15 @@ class PaymentServiceTest {
     private RoleRepository roleRepository;
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private PricingEngine pricingEngine;
+
+    @Autowired
+    private StripeWebhookService stripeWebhookService;
+    @Autowired
+    private EntityManager entityManager;
 
     private StripePaymentService stripePaymentService;
-    private MessageDispatchService messageDispatchService;
     private TimeProvider timeProvider;
     private PaymentServiceImpl paymentService;
 
@@ -95,16 +102,15 @@ class PaymentServiceTest {
     void setUp() {
         timeProvider = mock(TimeProvider.class);
         stripePaymentService = mock(StripePaymentService.class);
-        messageDispatchService = mock(MessageDispatchService.class);
 
         paymentService = new PaymentServiceImpl(
                 rentalRepository,
                 paymentRepository,
                 paymentMapper,
                 stripePaymentService,
-                messageDispatchService,
                 timeProvider,
-                userRepository
+                userRepository,
+                pricingEngine
         );
 
         car = new Car();
@@ -196,42 +202,50 @@ class PaymentServiceTest {
     }
 
     @Test
-    @DisplayName("PaymentSuccess: updates status if session paid")
-    void paymentSuccess_shouldUpdateStatus() throws Exception {
+    @DisplayName("PaymentSuccess: accepts a payment confirmed by the Stripe webhook")
+    void paymentSuccess_shouldAcceptPaymentConfirmedByWebhook() {
         createPayment("success-1", Payment.Status.PENDING);
-
-        when(stripePaymentService.isPaymentSessionPaid("success-1")).thenReturn(true);
-
-        try (MockedStatic<Session> mocked = mockStatic(Session.class)) {
-            Session mockSession = mock(Session.class);
-            when(mockSession.getPaymentStatus()).thenReturn("paid");
-            mocked.when(() -> Session.retrieve("success-1")).thenReturn(mockSession);
-
-            paymentService.paymentSuccess("success-1");
-        }
+        String payload = StripeEventUtilTest.checkoutSessionCompleted(
+                "evt_success_1", "success-1", "paid");
+
+        stripeWebhookService.handleEvent(payload,
+                StripeEventUtilTest.sign(payload, StripeEventUtilTest.WEBHOOK_SECRET));
+        stripeWebhookService.processPendingEvents(10);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(Payment.Status.PAID, paymentService.paymentSuccess("success-1"));
+        assertEquals(Payment.Status.PAID,
+                paymentRepository.findBySessionId("success-1").orElseThrow().getStatus());
+        verify(stripePaymentService, never()).isPaymentSessionPaid(any());
     }
 
     @Test
     @DisplayName("PaymentSuccess: skips already paid payment")
-    void paymentSuccess_shouldIgnoreAlreadyPaid() throws MessageDispatchException {
+    void paymentSuccess_shouldIgnoreAlreadyPaid() {
         createPayment("paid-session", Payment.Status.PAID);
 
-        when(stripePaymentService.isPaymentSessionPaid("paid-session")).thenReturn(true);
-
         paymentService.paymentSuccess("paid-session");
 
-        verify(messageDispatchService, never()).sentMessageSuccessesPayment(any());
+        verify(stripePaymentService, never()).isPaymentSessionPaid(any());
     }
 
     @Test
-    @DisplayName("PaymentSuccess: throws PaymentException if session is unpaid")
-    void paymentSuccess_shouldThrowIfUnpaid() {
+    @DisplayName("PaymentSuccess: reports a payment not yet confirmed by the webhook as pending")
+    void paymentSuccess_shouldReportPendingIfNotConfirmed() {
         createPayment("unpaid-session", Payment.Status.PENDING);
 
-        when(stripePaymentService.isPaymentSessionPaid("unpaid-session")).thenReturn(false);
+        assertEquals(Payment.Status.PENDING, paymentService.paymentSuccess("unpaid-session"));
+        verify(stripePaymentService, never()).isPaymentSessionPaid(any());
+    }
+
+    @Test
+    @DisplayName("PaymentSuccess: throws PaymentException if session was cancelled")
+    void paymentSuccess_shouldThrowIfCancelled() {
+        createPayment("cancelled-session", Payment.Status.CANCELLED);
 
         assertThrows(PaymentException.class, () ->
-                paymentService.paymentSuccess("unpaid-session"));
+                paymentService.paymentSuccess("cancelled-session"));
     }
 
     @Test
@@ -254,9 +268,10 @@ class PaymentServiceTest {
     @DisplayName("PaymentCancel: ignores non-pending payments")
     void paymentCancel_shouldIgnoreIfNotPending() {
         Payment payment = createPayment("not-pending", Payment.Status.PAID);
-        assertThrows(ResponseStatusException.class, () -> {
-            paymentService.paymentCancel("not-pending");
-        });
+
+        assertFalse(paymentService.paymentCancel("not-pending"));
+        assertEquals(Payment.Status.PAID,
+                paymentRepository.findById(payment.getId()).orElseThrow().getStatus());
     }
 
     @Test
@@ -278,9 +293,9 @@ class PaymentServiceTest {
                 paymentRepository,
                 paymentMapper,
                 stripePaymentService,
-                messageDispatchService,
                 timeProvider,
-                userRepository
+                userRepository,
+                pricingEngine
         );
 
         PaymentRequestDto dto = new PaymentRequestDto(999L, Payment.Type.FINE);
@@ -0,0 +1,96 @@
+package mate.academy.carsharing.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import mate.academy.carsharing.app.dto.car.CarDto;
+import mate.academy.carsharing.app.dto.car.CarSearchParametersDto;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.repository.CarRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+public class ReadOnlyTransactionTest {
+    private static final int CARS = 20;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<Car> cars = new ArrayList<>(CARS);
+        for (int i = 0; i < CARS; i++) {
+            Car car = new Car();
+            car.setBrand("Audi");
+            car.setModel("A" + i);
+            car.setType(Car.Type.SEDAN);
+            car.setInventory(1);
+            car.setDailyFee(new BigDecimal("300.00"));
+            cars.add(car);
+        }
+        carRepository.saveAll(cars);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        carRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("GetAllCars: loads the page without dirty checking or flushing it.")
+    void getAllCars_ShouldNotFlushLoadedCars() {
+        Page<CarDto> page = carService.getAllCars(PageRequest.of(1, 10)).body();
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(10);
+        assertThat(statistics.getFlushCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("SearchCars: loads the cars without dirty checking or flushing them.")
+    void searchCars_ShouldNotFlushLoadedCars() {
+        carService.searchCars(new CarSearchParametersDto(
+                null, null, null, null, null, null, null, null, CARS));
+
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(CARS);
+        assertThat(statistics.getFlushCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("A read-write transaction flushes the same page on commit.")
+    void readWriteTransaction_ShouldFlushLoadedCars() {
+        transactionTemplate.executeWithoutResult(
+                status -> carRepository.findAll(PageRequest.of(1, 10)));
+
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(10);
+        assertThat(statistics.getFlushCount()).isEqualTo(1);
+    }
+}
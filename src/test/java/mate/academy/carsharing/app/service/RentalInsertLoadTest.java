@@ -0,0 +1,112 @@
+package mate.academy.carsharing.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Rental;
+import mate.academy.carsharing.app.model.User;
+import mate.academy.carsharing.app.repository.CarRepository;
+import mate.academy.carsharing.app.repository.RentalRepository;
+import mate.academy.carsharing.app.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+abstract class RentalInsertLoadTest {
+    private static final int RENTALS = Integer.getInteger("benchmark.rentals", 100_000);
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Insert rentals through JPA in chunked transactions")
+    void saveAll_shouldInsertRentals() {
+        Car car = new Car();
+        car.setBrand("Audi");
+        car.setModel("A4");
+        car.setType(Car.Type.SEDAN);
+        car.setInventory(1);
+        car.setDailyFee(new BigDecimal("300.00"));
+        Long carId = carRepository.save(car).getId();
+
+        User user = new User();
+        user.setEmail("insert@gmail.com");
+        user.setFirstName("Insert");
+        user.setLastName("User");
+        user.setPassword("Password111");
+        user.setTelegramChatId("insert-chat");
+        Long userId = userRepository.save(user).getId();
+
+        final long before = rentalRepository.count();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        for (int inserted = 0; inserted < RENTALS; inserted += CHUNK_SIZE) {
+            int size = Math.min(CHUNK_SIZE, RENTALS - inserted);
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Rental> rentals = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    Rental rental = new Rental();
+                    rental.setCar(entityManager.getReference(Car.class, carId));
+                    rental.setUser(entityManager.getReference(User.class, userId));
+                    rental.setRentalDate(LocalDate.now());
+                    rental.setReturnDate(LocalDate.now().plusDays(1 + i % 10));
+                    rental.setIsActive(false);
+                    rentals.add(rental);
+                }
+                rentalRepository.saveAll(rentals);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        long elapsed = System.nanoTime() - start;
+
+        log.info("{}: {} rentals in {} ms, {} inserts/s, {} JDBC statements prepared", mode(),
+                RENTALS, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                Math.round(RENTALS / (elapsed / 1e9)), statistics.getPrepareStatementCount());
+        assertThat(rentalRepository.count()).isEqualTo(before + RENTALS);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Rental r WHERE r.user.id = :userId")
+                    .setParameter("userId", userId)
+                    .executeUpdate();
+            userRepository.deleteById(userId);
+            carRepository.deleteById(carId);
+        });
+    }
+
+    protected abstract String mode();
+}
@@ -0,0 +1,117 @@
+package mate.academy.carsharing.app.service;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import mate.academy.carsharing.app.config.TestTelegramConfig;
+import mate.academy.carsharing.app.dto.rental.CreateRentalRequestDto;
+import mate.academy.carsharing.app.exception.InsufficientQuantityException;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.User;
+import mate.academy.carsharing.app.repository.CarRepository;
+import mate.academy.carsharing.app.repository.RentalRepository;
+import mate.academy.carsharing.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.jdbc.Sql;
+
+@SpringBootTest
+@Import(TestTelegramConfig.class)
+@Sql(scripts = "/db/delete-all-data-db.sql",
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(scripts = "/db/delete-all-data-db.sql",
+        executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+public class RentalServiceConcurrencyTest {
+    private static final int REQUESTS = 2000;
+    private static final int THREADS = 64;
+    private static final int INVENTORY = 100;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    private Car car;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        car = new Car();
+        car.setBrand("Toyota");
+        car.setModel("Corolla");
+        car.setType(Car.Type.SEDAN);
+        car.setInventory(INVENTORY);
+        car.setDailyFee(new BigDecimal("250.00"));
+        car = carRepository.save(car);
+
+        users = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            User user = new User();
+            user.setEmail("load" + i + "@gmail.com");
+            user.setFirstName("Load");
+            user.setLastName("Test");
+            user.setPassword("Password" + i);
+            user.setTelegramChatId("chat-" + i);
+            users.add(user);
+        }
+        users = userRepository.saveAll(users);
+    }
+
+    @Test
+    @DisplayName("CreateRental: parallel rentals of one car never oversell its inventory.")
+    void createRental_parallelRequests_shouldNotOversell() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rented = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(REQUESTS);
+
+        for (User user : users) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    rentalService.createRental(
+                            new UsernamePasswordAuthenticationToken(user, null),
+                            new CreateRentalRequestDto(LocalDate.now().plusDays(3), car.getId()));
+                    rented.incrementAndGet();
+                } catch (InsufficientQuantityException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertThat(rented.get()).isEqualTo(INVENTORY);
+        assertThat(rejected.get()).isEqualTo(REQUESTS - INVENTORY);
+        assertThat(carRepository.findById(car.getId()).orElseThrow().getInventory())
+                .isEqualTo(0);
+        assertThat(rentalRepository.count()).isEqualTo(INVENTORY);
+    }
+}
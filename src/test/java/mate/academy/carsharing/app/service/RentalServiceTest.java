@@ -144,9 +144,8 @@ public class RentalServiceTest {
         );
 
         Long rentalId = rentalResponse.id();
-        Long userId = user.getId();
 
-        RentalResponseDto result = rentalService.getRentalById(userId, rentalId);
+        RentalResponseDto result = rentalService.getRentalById(authentication, rentalId);
 
         assertThat(result).isNotNull();
         assertThat(result.id()).isEqualTo(rentalId);
@@ -171,10 +170,11 @@ public class RentalServiceTest {
                 new CreateRentalRequestDto(LocalDate.now().plusDays(3), car.getId()));
 
         Long rentalId = rentalResponse.id();
-        Long userId = user2.getId();
+        Authentication otherUserAuthentication =
+                new UsernamePasswordAuthenticationToken(user2, null);
 
         assertThrows(ForbiddenOperationException.class, () ->
-                rentalService.getRentalById(userId, rentalId));
+                rentalService.getRentalById(otherUserAuthentication, rentalId));
     }
 
     @Test
@@ -223,6 +223,25 @@ public class RentalServiceTest {
                 rentalService.closeRental(userId, rentalId));
     }
 
+    @Test
+    @DisplayName("CreateRental and CloseRental: succeed for a user without a telegram chat id.")
+    void createAndCloseRental_UserWithoutChatId_shouldSucceed() {
+        user.setTelegramChatId("");
+        user = userRepository.save(user);
+        authentication = new UsernamePasswordAuthenticationToken(user, null);
+
+        RentalResponseDto rental = rentalService.createRental(authentication,
+                new CreateRentalRequestDto(LocalDate.now().plusDays(3), car.getId()));
+        RentalActualReturnDateResponseDto result =
+                rentalService.closeRental(user.getId(), rental.id());
+
+        assertThat(result.actualReturnDate()).isEqualTo(LocalDate.now());
+        assertThat(rentalRepository.findById(rental.id()).orElseThrow().getIsActive())
+                .isFalse();
+        assertThat(carRepository.findById(car.getId()).orElseThrow().getInventory())
+                .isEqualTo(2);
+    }
+
     @Test
     @DisplayName("CloseRental: throws ForbiddenOperationException if user does not have access.")
     void closeRental_shouldThrowForbidden_whenUserHasNoAccess() {
@@ -267,7 +286,7 @@ public class RentalServiceTest {
         Long nonExistingRentalId = 999L;
 
         assertThrows(RuntimeException.class, () ->
-                rentalService.getRentalById(user.getId(), nonExistingRentalId));
+                rentalService.getRentalById(authentication, nonExistingRentalId));
     }
 
     @Test
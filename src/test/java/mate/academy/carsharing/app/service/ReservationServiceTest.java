@@ -0,0 +1,232 @@
+package mate.academy.carsharing.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import mate.academy.carsharing.app.dto.car.CarDto;
+import mate.academy.carsharing.app.dto.car.CarSearchParametersDto;
+import mate.academy.carsharing.app.dto.rental.CreateRentalRequestDto;
+import mate.academy.carsharing.app.dto.reservation.CreateReservationRequestDto;
+import mate.academy.carsharing.app.dto.reservation.ReservationResponseDto;
+import mate.academy.carsharing.app.exception.InsufficientQuantityException;
+import mate.academy.carsharing.app.exception.InvalidDateRangeException;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Rental;
+import mate.academy.carsharing.app.model.Reservation;
+import mate.academy.carsharing.app.model.User;
+import mate.academy.carsharing.app.repository.CarRepository;
+import mate.academy.carsharing.app.repository.RentalRepository;
+import mate.academy.carsharing.app.repository.ReservationRepository;
+import mate.academy.carsharing.app.repository.UserRepository;
+import mate.academy.carsharing.app.service.reservation.ReservationCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+public class ReservationServiceTest {
+    private static final LocalDate START = LocalDate.now().plusDays(10);
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private ReservationCalendar reservationCalendar;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private Car car;
+    private User user;
+    private Authentication authentication;
+
+    @BeforeEach
+    void setUp() {
+        car = new Car();
+        car.setBrand("Reserved");
+        car.setModel("Q8");
+        car.setType(Car.Type.SUV);
+        car.setInventory(1);
+        car.setFleetSize(1);
+        car.setDailyFee(new BigDecimal("520.00"));
+        carRepository.save(car);
+
+        user = createUser("reservation@gmail.com");
+        authentication = authenticate(user);
+    }
+
+    @Test
+    @DisplayName("CreateReservation: rejects bookings beyond the number of free cars.")
+    void createReservation_ShouldRejectOverlappingBookingBeyondInventory() {
+        reservationService.createReservation(authentication,
+                new CreateReservationRequestDto(car.getId(), START, START.plusDays(3)));
+
+        assertThrows(InsufficientQuantityException.class, () -> reservationService
+                .createReservation(authentication, new CreateReservationRequestDto(
+                        car.getId(), START.plusDays(3), START.plusDays(5))));
+        assertThat(reservationService.createReservation(authentication,
+                new CreateReservationRequestDto(car.getId(), START.plusDays(4),
+                        START.plusDays(5))).id()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("CreateReservation: a car rented today can still be booked after its return.")
+    void createReservation_CarRentedToday_ShouldAcceptBookingAfterReturn() {
+        rentCar(LocalDate.now(), LocalDate.now().plusDays(3));
+
+        assertThrows(InsufficientQuantityException.class, () -> reservationService
+                .createReservation(authentication, new CreateReservationRequestDto(
+                        car.getId(), LocalDate.now().plusDays(2), LocalDate.now().plusDays(5))));
+        assertThat(reservationService.createReservation(authentication,
+                new CreateReservationRequestDto(car.getId(), START, START.plusDays(3))).id())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("CreateRental: a car reserved by another customer for the rental period can't be "
+            + "rented.")
+    void createRental_CarReservedByOtherUser_ShouldBeRejected() {
+        reservationService.createReservation(authenticate(createUser("other@gmail.com")),
+                new CreateReservationRequestDto(car.getId(), START, START.plusDays(3)));
+
+        assertThrows(InsufficientQuantityException.class, () -> rentalService.createRental(
+                authentication, new CreateRentalRequestDto(START.plusDays(1), car.getId())));
+    }
+
+    @Test
+    @DisplayName("CreateRental: the customer holding the reservation can rent the car.")
+    void createRental_CarReservedBySameUser_ShouldBeAccepted() {
+        reservationService.createReservation(authentication,
+                new CreateReservationRequestDto(car.getId(), START, START.plusDays(3)));
+
+        assertThat(rentalService.createRental(authentication,
+                new CreateRentalRequestDto(START.plusDays(1), car.getId())).id()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("CreateRental: the customer's reservation is consumed instead of counted twice "
+            + "next to another customer's reservation.")
+    void createRental_OwnReservationOverlappingOthers_ShouldConsumeReservation() {
+        car.setInventory(3);
+        car.setFleetSize(3);
+        carRepository.save(car);
+        ReservationResponseDto own = reservationService.createReservation(authentication,
+                new CreateReservationRequestDto(car.getId(), START, START.plusDays(3)));
+        reservationService.createReservation(authenticate(createUser("other@gmail.com")),
+                new CreateReservationRequestDto(car.getId(), START.plusDays(2),
+                        START.plusDays(5)));
+
+        rentalService.createRental(authentication,
+                new CreateRentalRequestDto(START.plusDays(3), car.getId()));
+
+        assertThat(reservationRepository.findById(own.id()).orElseThrow().getStatus())
+                .isEqualTo(Reservation.Status.CONSUMED);
+        assertThat(reservationService.createReservation(authenticate(createUser("third@gmail.com")),
+                new CreateReservationRequestDto(car.getId(), START.plusDays(2),
+                        START.plusDays(3))).id()).isNotNull();
+        assertThrows(InsufficientQuantityException.class, () -> reservationService
+                .createReservation(authenticate(createUser("fourth@gmail.com")),
+                        new CreateReservationRequestDto(car.getId(), START.plusDays(2),
+                                START.plusDays(3))));
+    }
+
+    @Test
+    @DisplayName("CreateReservation: rejects a range ending before it starts.")
+    void createReservation_ShouldRejectInvertedRange() {
+        assertThrows(InvalidDateRangeException.class, () -> reservationService
+                .createReservation(authentication, new CreateReservationRequestDto(
+                        car.getId(), START.plusDays(1), START)));
+    }
+
+    @Test
+    @DisplayName("CancelReservation: frees the car for the booked dates.")
+    void cancelReservation_ShouldFreeBookedDates() {
+        ReservationResponseDto reservation = reservationService.createReservation(
+                authentication, new CreateReservationRequestDto(
+                        car.getId(), START, START.plusDays(3)));
+
+        reservationService.cancelReservation(authentication, reservation.id());
+
+        assertThat(reservationService.createReservation(authentication,
+                new CreateReservationRequestDto(car.getId(), START, START.plusDays(3))).id())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("Availability: booked cars are excluded from the calendar and the search.")
+    void availability_ShouldExcludeBookedCars() {
+        reservationService.createReservation(authentication,
+                new CreateReservationRequestDto(car.getId(), START, START.plusDays(3)));
+        reservationCalendar.rebuild();
+
+        assertThat(reservationService.getCarAvailability(car.getId(), START.plusDays(2),
+                START.plusDays(6)).availableUnits()).isZero();
+        assertThat(reservationService.getCarAvailability(car.getId(), START.plusDays(4),
+                START.plusDays(6)).availableUnits()).isEqualTo(1);
+        assertThat(searchReserved(START.plusDays(2), START.plusDays(6))).isEmpty();
+        assertThat(searchReserved(START.plusDays(4), START.plusDays(6)))
+                .containsExactly(car.getId());
+    }
+
+    private User createUser(String email) {
+        User newUser = new User();
+        newUser.setEmail(email);
+        newUser.setFirstName("Reservation");
+        newUser.setLastName("User");
+        newUser.setPassword("Password111");
+        newUser.setTelegramChatId(email);
+        return userRepository.save(newUser);
+    }
+
+    private Authentication authenticate(User principal) {
+        return new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities());
+    }
+
+    private void rentCar(LocalDate from, LocalDate to) {
+        Rental rental = new Rental();
+        rental.setCar(car);
+        rental.setUser(user);
+        rental.setRentalDate(from);
+        rental.setReturnDate(to);
+        rental.setIsActive(true);
+        rentalRepository.save(rental);
+        car.setInventory(car.getInventory() - 1);
+        carRepository.save(car);
+    }
+
+    private List<Long> searchReserved(LocalDate from, LocalDate to) {
+        return carService.searchCars(new CarSearchParametersDto(
+                        null, "Reserved", null, null, true, from, to, null, 10))
+                .cars()
+                .stream()
+                .map(CarDto::id)
+                .toList();
+    }
+}
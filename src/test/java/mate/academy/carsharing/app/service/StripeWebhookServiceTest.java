@@ -0,0 +1,138 @@
+package mate.academy.carsharing.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import mate.academy.carsharing.app.example.StripeEventUtilTest;
+import mate.academy.carsharing.app.exception.InvalidSignatureException;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Payment;
+import mate.academy.carsharing.app.model.Rental;
+import mate.academy.carsharing.app.model.User;
+import mate.academy.carsharing.app.repository.CarRepository;
+import mate.academy.carsharing.app.repository.OutboxMessageRepository;
+import mate.academy.carsharing.app.repository.PaymentRepository;
+import mate.academy.carsharing.app.repository.RentalRepository;
+import mate.academy.carsharing.app.repository.StripeEventRepository;
+import mate.academy.carsharing.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+public class StripeWebhookServiceTest {
+    private static final String SESSION_ID = "cs_test_webhook";
+
+    @Autowired
+    private StripeWebhookService stripeWebhookService;
+
+    @Autowired
+    private StripeEventRepository stripeEventRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Car car = new Car();
+        car.setBrand("Audi");
+        car.setModel("Q8");
+        car.setType(Car.Type.SUV);
+        car.setInventory(2);
+        car.setDailyFee(new BigDecimal("520.00"));
+        carRepository.save(car);
+
+        User user = new User();
+        user.setEmail("webhook@gmail.com");
+        user.setFirstName("Web");
+        user.setLastName("Hook");
+        user.setPassword("Password111");
+        user.setTelegramChatId("webhook-chat");
+        userRepository.save(user);
+
+        Rental rental = new Rental();
+        rental.setCar(car);
+        rental.setUser(user);
+        rental.setRentalDate(LocalDate.now().minusDays(2));
+        rental.setReturnDate(LocalDate.now().plusDays(2));
+        rental.setIsActive(true);
+        rentalRepository.save(rental);
+
+        Payment payment = new Payment();
+        payment.setStatus(Payment.Status.PENDING);
+        payment.setType(Payment.Type.PAYMENT);
+        payment.setRental(rental);
+        payment.setSessionId(SESSION_ID);
+        payment.setSessionUrl("https://checkout.stripe.com/" + SESSION_ID);
+        payment.setAmount(new BigDecimal("1040.00"));
+        paymentRepository.save(payment);
+    }
+
+    @Test
+    @DisplayName("HandleEvent: rejects an event with an invalid signature.")
+    void handleEvent_InvalidSignature_ShouldThrow() {
+        String payload = StripeEventUtilTest.checkoutSessionCompleted(
+                "evt_invalid", SESSION_ID, "paid");
+        String signature = StripeEventUtilTest.sign(payload, "whsec_other_secret");
+
+        assertThrows(InvalidSignatureException.class,
+                () -> stripeWebhookService.handleEvent(payload, signature));
+        assertThat(stripeEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("HandleEvent: ignores checkout sessions that are not paid.")
+    void handleEvent_UnpaidSession_ShouldBeIgnored() {
+        handle("evt_unpaid", "unpaid");
+
+        assertThat(stripeEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("ProcessPendingEvents: marks the payment paid once for redelivered events.")
+    void processPendingEvents_DuplicateEvents_ShouldConfirmPaymentOnce() {
+        handle("evt_paid", "paid");
+        handle("evt_paid", "paid");
+
+        int processed = stripeWebhookService.processPendingEvents(10);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(processed).isEqualTo(1);
+        assertThat(paymentRepository.findBySessionId(SESSION_ID).orElseThrow().getStatus())
+                .isEqualTo(Payment.Status.PAID);
+        assertThat(outboxMessageRepository.count()).isEqualTo(1);
+        assertThat(stripeWebhookService.processPendingEvents(10)).isZero();
+    }
+
+    private void handle(String eventId, String paymentStatus) {
+        String payload = StripeEventUtilTest.checkoutSessionCompleted(
+                eventId, SESSION_ID, paymentStatus);
+        stripeWebhookService.handleEvent(payload,
+                StripeEventUtilTest.sign(payload, StripeEventUtilTest.WEBHOOK_SECRET));
+    }
+}
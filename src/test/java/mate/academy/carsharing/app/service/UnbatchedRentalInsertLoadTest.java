@@ -0,0 +1,15 @@
+package mate.academy.carsharing.app.service;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties =
+        "spring.jpa.mapping-resources=META-INF/identity-rental-orm.xml")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class UnbatchedRentalInsertLoadTest extends RentalInsertLoadTest {
+
+    @Override
+    protected String mode() {
+        return "IDENTITY inserts";
+    }
+}
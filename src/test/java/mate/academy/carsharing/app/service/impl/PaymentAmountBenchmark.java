@@ -0,0 +1,80 @@
+package mate.academy.carsharing.app.service.impl;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Payment;
+import mate.academy.carsharing.app.model.PricingRule;
+import mate.academy.carsharing.app.model.Rental;
+import mate.academy.carsharing.app.repository.PricingRuleRepository;
+import mate.academy.carsharing.app.service.pricing.PricingEngineImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentAmountBenchmark {
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 20);
+
+    @Param({"PAYMENT", "FINE"})
+    private Payment.Type type;
+
+    private PaymentServiceImpl paymentService;
+    private Rental rental;
+    private Rental unsavedRental;
+
+    @Setup
+    public void setUp() {
+        PricingRule fineRule = new PricingRule();
+        fineRule.setCharge(PricingRule.Charge.FINE);
+        fineRule.setMultiplier(new BigDecimal("2"));
+        PricingRuleRepository pricingRuleRepository = mock(PricingRuleRepository.class);
+        when(pricingRuleRepository.findAll()).thenReturn(List.of(fineRule));
+        PricingEngineImpl pricingEngine =
+                new PricingEngineImpl(pricingRuleRepository, 1000, 3600000);
+        pricingEngine.loadRules();
+        paymentService = new PaymentServiceImpl(
+                null, null, null, null, () -> TODAY, null, pricingEngine);
+        Car car = new Car();
+        car.setType(Car.Type.SEDAN);
+        car.setDailyFee(new BigDecimal("520.00"));
+        car.setId(1L);
+        rental = new Rental();
+        rental.setId(1L);
+        rental.setCar(car);
+        rental.setRentalDate(TODAY.minusDays(14));
+        rental.setReturnDate(TODAY.minusDays(4));
+        unsavedRental = new Rental();
+        unsavedRental.setCar(car);
+        unsavedRental.setRentalDate(TODAY.minusDays(14));
+        unsavedRental.setReturnDate(TODAY.minusDays(4));
+    }
+
+    @Benchmark
+    public BigDecimal calculateAmount() {
+        return paymentService.calculateAmountConsideringActiveRental(rental, type);
+    }
+
+    @Benchmark
+    public BigDecimal calculateAmountWithoutQuoteCache() {
+        return paymentService.calculateAmountConsideringActiveRental(unsavedRental, type);
+    }
+}
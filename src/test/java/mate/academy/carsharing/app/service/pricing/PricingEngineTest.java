@@ -0,0 +1,90 @@
+package mate.academy.carsharing.app.service.pricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import mate.academy.carsharing.app.event.CarPriceChangedEvent;
+import mate.academy.carsharing.app.event.RentalClosedEvent;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.PricingRule;
+import mate.academy.carsharing.app.model.Rental;
+import mate.academy.carsharing.app.repository.PricingRuleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PricingEngineTest {
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 20);
+
+    private PricingEngineImpl pricingEngine;
+    private Car car;
+    private Rental rental;
+
+    @BeforeEach
+    void setUp() {
+        PricingRule fineRule = new PricingRule();
+        fineRule.setCharge(PricingRule.Charge.FINE);
+        fineRule.setMultiplier(new BigDecimal("2"));
+        PricingRuleRepository pricingRuleRepository = mock(PricingRuleRepository.class);
+        when(pricingRuleRepository.findAll()).thenReturn(List.of(fineRule));
+        pricingEngine = new PricingEngineImpl(pricingRuleRepository, 100, 60_000);
+        pricingEngine.loadRules();
+        car = new Car();
+        car.setId(1L);
+        car.setType(Car.Type.SEDAN);
+        car.setDailyFee(new BigDecimal("100.00"));
+        rental = new Rental();
+        rental.setId(1L);
+        rental.setCar(car);
+        rental.setRentalDate(TODAY.minusDays(5));
+        rental.setReturnDate(TODAY.minusDays(2));
+    }
+
+    @Test
+    @DisplayName("quote(): splits the amount into the base fee and the overdue fine")
+    void quote_shouldCalculateBaseAndFine() {
+        PriceQuote quote = pricingEngine.quote(rental, TODAY);
+
+        assertThat(quote.base()).isEqualByComparingTo("500.00");
+        assertThat(quote.fine()).isEqualByComparingTo("400.00");
+        assertThat(quote.total()).isEqualByComparingTo("900.00");
+        assertThat(quote.currency()).isEqualTo("usd");
+    }
+
+    @Test
+    @DisplayName("quote(): reuses the quote for the same rental and date until it is closed")
+    void quote_shouldBeCachedUntilRentalIsClosed() {
+        PriceQuote quote = pricingEngine.quote(rental, TODAY);
+        rental.setActualReturnDate(TODAY.minusDays(3));
+
+        assertThat(pricingEngine.quote(rental, TODAY)).isSameAs(quote);
+
+        pricingEngine.onRentalClosed(new RentalClosedEvent(rental.getId()));
+
+        assertThat(pricingEngine.quote(rental, TODAY).total()).isEqualByComparingTo("200.00");
+    }
+
+    @Test
+    @DisplayName("quote(): recalculates quotes of a car whose daily fee changed")
+    void quote_shouldBeRecalculatedWhenCarPriceChanges() {
+        pricingEngine.quote(rental, TODAY);
+        car.setDailyFee(new BigDecimal("50.00"));
+
+        pricingEngine.onCarPriceChanged(new CarPriceChangedEvent(car.getId()));
+
+        assertThat(pricingEngine.quote(rental, TODAY).total()).isEqualByComparingTo("450.00");
+    }
+
+    @Test
+    @DisplayName("quote(): throws if the rental date is missing")
+    void quote_shouldThrowWithoutRentalDate() {
+        rental.setRentalDate(null);
+
+        assertThrows(IllegalStateException.class, () -> pricingEngine.quote(rental, TODAY));
+    }
+}
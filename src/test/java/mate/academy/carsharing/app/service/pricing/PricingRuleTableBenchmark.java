@@ -0,0 +1,74 @@
+package mate.academy.carsharing.app.service.pricing;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.PricingRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingRuleTableBenchmark {
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 6, 16);
+    private static final BigDecimal DAILY_FEE = new BigDecimal("520.00");
+
+    @Param({"10", "1000", "5000"})
+    private int ruleCount;
+
+    @Param({"3", "45"})
+    private long days;
+
+    private List<PricingRule> rules;
+    private PricingRuleTable table;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rules = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            PricingRule rule = new PricingRule();
+            rule.setCharge(random.nextInt(10) == 0
+                    ? PricingRule.Charge.FINE
+                    : PricingRule.Charge.RENTAL);
+            rule.setCarType(random.nextBoolean()
+                    ? Car.Type.values()[random.nextInt(Car.Type.values().length)]
+                    : null);
+            rule.setDayOfWeek(random.nextBoolean()
+                    ? DayOfWeek.of(random.nextInt(7) + 1)
+                    : null);
+            rule.setMinDays(random.nextInt(60) + 1);
+            rule.setMultiplier(BigDecimal.valueOf(0.999 + random.nextDouble() * 0.002));
+            rules.add(rule);
+        }
+        table = PricingRuleTable.compile(rules);
+    }
+
+    @Benchmark
+    public BigDecimal price() {
+        return table.price(PricingRule.Charge.RENTAL, Car.Type.SUV, DAILY_FEE, FIRST_DAY, days);
+    }
+
+    @Benchmark
+    public PricingRuleTable compile() {
+        return PricingRuleTable.compile(rules);
+    }
+}
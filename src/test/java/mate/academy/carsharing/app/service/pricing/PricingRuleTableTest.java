@@ -0,0 +1,70 @@
+package mate.academy.carsharing.app.service.pricing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.PricingRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PricingRuleTableTest {
+    private static final BigDecimal DAILY_FEE = new BigDecimal("100.00");
+    private static final LocalDate MONDAY = LocalDate.of(2025, 6, 16);
+
+    @Test
+    @DisplayName("price(): without rules every day costs the daily fee")
+    void price_shouldUseDailyFeeWithoutRules() {
+        PricingRuleTable table = PricingRuleTable.compile(List.of());
+
+        assertThat(table.price(PricingRule.Charge.RENTAL, Car.Type.SEDAN, DAILY_FEE, MONDAY, 10))
+                .isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    @DisplayName("price(): weekend days are charged with the weekend multiplier")
+    void price_shouldApplyWeekendRate() {
+        PricingRuleTable table = PricingRuleTable.compile(List.of(
+                rule(null, DayOfWeek.SATURDAY, 1, "1.5"),
+                rule(null, DayOfWeek.SUNDAY, 1, "1.5")));
+
+        assertThat(table.price(PricingRule.Charge.RENTAL, Car.Type.SEDAN, DAILY_FEE, MONDAY, 7))
+                .isEqualByComparingTo("800.00");
+        assertThat(table.price(PricingRule.Charge.RENTAL, Car.Type.SEDAN, DAILY_FEE, MONDAY, 5))
+                .isEqualByComparingTo("500.00");
+    }
+
+    @Test
+    @DisplayName("price(): long rental discounts and car type multipliers are combined")
+    void price_shouldCombineLongRentalDiscountAndCarTypeMultiplier() {
+        PricingRuleTable table = PricingRuleTable.compile(List.of(
+                rule(null, null, 7, "0.9"),
+                rule(null, null, 30, "0.8"),
+                rule(Car.Type.SUV, null, 1, "1.2")));
+
+        assertThat(table.price(PricingRule.Charge.RENTAL, Car.Type.SEDAN, DAILY_FEE, MONDAY, 6))
+                .isEqualByComparingTo("600.00");
+        assertThat(table.price(PricingRule.Charge.RENTAL, Car.Type.SEDAN, DAILY_FEE, MONDAY, 10))
+                .isEqualByComparingTo("900.00");
+        assertThat(table.price(PricingRule.Charge.RENTAL, Car.Type.SEDAN, DAILY_FEE, MONDAY, 30))
+                .isEqualByComparingTo("2160.00");
+        assertThat(table.price(PricingRule.Charge.RENTAL, Car.Type.SUV, DAILY_FEE, MONDAY, 10))
+                .isEqualByComparingTo("1080.00");
+        assertThat(table.price(PricingRule.Charge.FINE, Car.Type.SUV, DAILY_FEE, MONDAY, 10))
+                .isEqualByComparingTo("1000.00");
+    }
+
+    private PricingRule rule(Car.Type carType, DayOfWeek dayOfWeek, int minDays,
+                             String multiplier) {
+        PricingRule rule = new PricingRule();
+        rule.setCharge(PricingRule.Charge.RENTAL);
+        rule.setCarType(carType);
+        rule.setDayOfWeek(dayOfWeek);
+        rule.setMinDays(minDays);
+        rule.setMultiplier(new BigDecimal(multiplier));
+        return rule;
+    }
+}
@@ -0,0 +1,63 @@
+package mate.academy.carsharing.app.service.reservation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntervalTreeBenchmark {
+    private static final int HORIZON_DAYS = 365;
+    private static final long FROM = 100;
+    private static final long TO = 107;
+
+    @Param({"1000", "10000"})
+    private int cars;
+
+    @Param({"50"})
+    private int reservationsPerCar;
+
+    private IntervalTree[] trees;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        trees = new IntervalTree[cars];
+        long id = 0;
+        for (int car = 0; car < cars; car++) {
+            List<IntervalTree.Interval> intervals = new ArrayList<>(reservationsPerCar);
+            for (int i = 0; i < reservationsPerCar; i++) {
+                long start = random.nextInt(HORIZON_DAYS);
+                intervals.add(new IntervalTree.Interval(id++, start, start + random.nextInt(14)));
+            }
+            trees[car] = IntervalTree.of(intervals);
+        }
+    }
+
+    @Benchmark
+    public int fleetAvailability() {
+        int available = 0;
+        for (IntervalTree tree : trees) {
+            if (tree.maxOverlap(FROM, TO) < 3) {
+                available++;
+            }
+        }
+        return available;
+    }
+}
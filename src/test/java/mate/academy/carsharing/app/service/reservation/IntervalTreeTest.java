@@ -0,0 +1,44 @@
+package mate.academy.carsharing.app.service.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IntervalTreeTest {
+
+    @Test
+    @DisplayName("maxOverlap(): an empty tree has no bookings")
+    void maxOverlap_shouldBeZeroForEmptyTree() {
+        assertThat(IntervalTree.of(List.of()).maxOverlap(0, 100)).isZero();
+    }
+
+    @Test
+    @DisplayName("maxOverlap(): counts the peak of concurrent bookings inside the range")
+    void maxOverlap_shouldCountPeakOfConcurrentBookings() {
+        IntervalTree tree = IntervalTree.of(List.of(
+                new IntervalTree.Interval(1, 1, 5),
+                new IntervalTree.Interval(2, 4, 8),
+                new IntervalTree.Interval(3, 6, 10),
+                new IntervalTree.Interval(4, 20, 25)));
+
+        assertThat(tree.maxOverlap(1, 3)).isEqualTo(1);
+        assertThat(tree.maxOverlap(4, 5)).isEqualTo(2);
+        assertThat(tree.maxOverlap(5, 6)).isEqualTo(2);
+        assertThat(tree.maxOverlap(1, 25)).isEqualTo(2);
+        assertThat(tree.maxOverlap(11, 19)).isZero();
+        assertThat(tree.maxOverlap(25, 30)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("maxOverlap(): bookings ending the day before the range don't overlap it")
+    void maxOverlap_shouldTreatBoundsAsInclusive() {
+        IntervalTree tree = IntervalTree.of(List.of(
+                new IntervalTree.Interval(1, 1, 3),
+                new IntervalTree.Interval(2, 4, 6)));
+
+        assertThat(tree.maxOverlap(3, 4)).isEqualTo(1);
+        assertThat(tree.maxOverlap(7, 9)).isZero();
+    }
+}
@@ -216,17 +216,16 @@ class MessageDispatchServiceTest {
     }
 
     @Test
-    @DisplayName("sendMessage throws MessageDispatchException on RestClientException")
-    void sendMessage_shouldThrowOnRestClientException() {
-        User testUser = user;
+    @DisplayName("send throws MessageDispatchException on RestClientException")
+    void send_shouldThrowOnRestClientException() {
         RestTemplate restTemplateMock = mock(RestTemplate.class);
         when(restTemplateMock.postForEntity(anyString(), any(), eq(String.class)))
                 .thenThrow(new RestClientException("Failed request"));
 
-        MessageDispatchServiceImpl serviceWithMock =
-                new MessageDispatchServiceImpl(userRepository, restTemplateMock);
+        TelegramMessageSender senderWithMock = new TelegramMessageSender(
+                restTemplateMock, "http://localhost", "123456:TEST_BOT_TOKEN");
 
         assertThrows(MessageDispatchException.class,
-                () -> serviceWithMock.sendMessage(testUser.getId(), "Hello"));
+                () -> senderWithMock.send(user.getTelegramChatId(), "Hello"));
     }
 }
@@ -0,0 +1,93 @@
+package mate.academy.carsharing.app.service.telegram;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import mate.academy.carsharing.app.model.Car;
+import mate.academy.carsharing.app.model.Rental;
+import mate.academy.carsharing.app.model.User;
+import mate.academy.carsharing.app.repository.RentalRepository;
+import mate.academy.carsharing.app.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RentalMessageSchedulerChunkTest {
+    private static final int CHUNK_SIZE = 3;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationOutboxService notificationOutboxService;
+
+    private RentalMessageScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new RentalMessageScheduler(rentalRepository,
+                new MessageDispatchServiceImpl(userRepository, notificationOutboxService),
+                userRepository, CHUNK_SIZE);
+        when(rentalRepository.findActiveNotOverdueAfter(any(), any(), any(), any()))
+                .thenReturn(List.of(rental(1L, "chat-1"), rental(2L, ""),
+                        rental(3L, "chat-3")))
+                .thenReturn(List.of(rental(4L, "chat-4")));
+    }
+
+    @Test
+    @DisplayName("A user without a chat id in the middle of a chunk doesn't stop the scan")
+    void messageNotOverdueRents_UserWithoutChatId_ShouldNotifyTheOthers() {
+        scheduler.messageNotOverdueRents();
+
+        verify(notificationOutboxService).save(eq("chat-1"), anyString());
+        verify(notificationOutboxService).save(eq("chat-3"), anyString());
+        verify(notificationOutboxService).save(eq("chat-4"), anyString());
+        verify(notificationOutboxService, never()).save(eq(""), anyString());
+    }
+
+    @Test
+    @DisplayName("A failing rental in the middle of a chunk doesn't stop the scan")
+    void messageNotOverdueRents_FailingRental_ShouldNotifyTheOthers() {
+        doThrow(new IllegalStateException("Outbox is unavailable"))
+                .when(notificationOutboxService).save(eq("chat-1"), anyString());
+
+        scheduler.messageNotOverdueRents();
+
+        verify(notificationOutboxService).save(eq("chat-3"), anyString());
+        verify(notificationOutboxService).save(eq("chat-4"), anyString());
+    }
+
+    private Rental rental(Long id, String chatId) {
+        User user = new User();
+        user.setId(id);
+        user.setTelegramChatId(chatId);
+
+        Car car = new Car();
+        car.setBrand("Audi");
+        car.setModel("Q8");
+        car.setDailyFee(new BigDecimal("700.00"));
+
+        Rental rental = new Rental();
+        rental.setId(id);
+        rental.setUser(user);
+        rental.setCar(car);
+        rental.setRentalDate(LocalDate.now());
+        rental.setReturnDate(LocalDate.now().plusDays(id));
+        return rental;
+    }
+}
@@ -27,7 +27,7 @@ import org.springframework.web.client.RestTemplate;
 @Import(TestTelegramConfig.class)
 @TestPropertySource(properties = {
         "telegram.bot.token=7438200647:AAHOHWc8Oaa4vdgEU-GHOKVC3jf4xsO_L5o",
-        "spring.task.scheduling.enabled=false"
+        "scheduling.enabled=false"
 })
 
 class TelegramBotServiceTest {
@@ -0,0 +1,174 @@
+package mate.academy.carsharing.app.service.telegram;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import mate.academy.carsharing.app.exception.MessageDispatchException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TelegramNotificationQueueTest {
+    private static final long VERIFY_TIMEOUT_MILLIS = 2000;
+
+    private TelegramMessageSender sender;
+    private NotificationOutboxService notificationOutboxService;
+    private TelegramNotificationQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        sender = mock(TelegramMessageSender.class);
+        notificationOutboxService = mock(NotificationOutboxService.class);
+        queue = new TelegramNotificationQueue(
+                sender, notificationOutboxService, 2, 1, 10, 10, 3, 10, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queue.stop();
+    }
+
+    @Test
+    @DisplayName("enqueue(): messages queued for one chat are sent as a single batch")
+    void enqueue_shouldBatchMessagesForSameChat() throws MessageDispatchException {
+        queue.enqueue(new TelegramMessage(1L, "1", "first"));
+        queue.enqueue(new TelegramMessage(2L, "1", "second"));
+
+        queue.start();
+
+        verify(sender, timeout(VERIFY_TIMEOUT_MILLIS)).send("1", "first\n\nsecond");
+        verify(notificationOutboxService, timeout(VERIFY_TIMEOUT_MILLIS))
+                .markDelivered(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("enqueue(): a failed delivery is retried with backoff")
+    void enqueue_shouldRetryFailedDelivery() throws MessageDispatchException {
+        doThrow(new MessageDispatchException("Telegram is down"))
+                .doNothing()
+                .when(sender).send("1", "hello");
+        queue.start();
+
+        queue.enqueue(new TelegramMessage(1L, "1", "hello"));
+
+        verify(sender, timeout(VERIFY_TIMEOUT_MILLIS).times(2)).send("1", "hello");
+        verify(notificationOutboxService, timeout(VERIFY_TIMEOUT_MILLIS))
+                .markDelivered(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("enqueue(): a delivery failing every attempt is returned to the outbox")
+    void enqueue_shouldMarkUndeliveredAfterLastAttempt() throws MessageDispatchException {
+        doThrow(new MessageDispatchException("Telegram is down"))
+                .when(sender).send("1", "hello");
+        queue.start();
+
+        queue.enqueue(new TelegramMessage(1L, "1", "hello"));
+
+        verify(notificationOutboxService, timeout(VERIFY_TIMEOUT_MILLIS))
+                .markUndelivered(List.of(1L));
+        verify(notificationOutboxService, never()).markDelivered(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("enqueue(): messages beyond the queue capacity are rejected")
+    void enqueue_shouldRejectMessagesWhenQueueIsFull() throws MessageDispatchException {
+        doNothing().when(sender).send(anyString(), anyString());
+        queue.enqueue(new TelegramMessage(1L, "1", "first"));
+        queue.enqueue(new TelegramMessage(2L, "2", "second"));
+
+        boolean accepted = queue.enqueue(new TelegramMessage(3L, "3", "third"));
+        queue.start();
+
+        assertThat(accepted).isFalse();
+        verify(sender, timeout(VERIFY_TIMEOUT_MILLIS)).send("2", "second");
+        verify(sender, never()).send(eq("3"), anyString());
+    }
+
+    @Test
+    @DisplayName("enqueue(): a notification claimed again while still queued is sent once")
+    void enqueue_shouldSkipNotificationAlreadyInFlight() throws MessageDispatchException {
+        queue.enqueue(new TelegramMessage(1L, "1", "first"));
+        queue.enqueue(new TelegramMessage(1L, "1", "first"));
+
+        boolean accepted = queue.enqueue(new TelegramMessage(2L, "2", "second"));
+        assertThat(queue.inFlightIds()).containsExactlyInAnyOrder(1L, 2L);
+        queue.start();
+
+        assertThat(accepted).isTrue();
+        verify(notificationOutboxService, timeout(VERIFY_TIMEOUT_MILLIS))
+                .markDelivered(List.of(2L));
+        verify(sender).send("1", "first");
+    }
+
+    @Test
+    @DisplayName("enqueue(): a chat waiting for its next send slot doesn't hold back other chats")
+    void enqueue_shouldNotBlockWorkerOnPerChatInterval() throws MessageDispatchException {
+        queue = new TelegramNotificationQueue(
+                sender, notificationOutboxService, 10, 1, 10, 60_000, 3, 10, false);
+        queue.start();
+        queue.enqueue(new TelegramMessage(1L, "1", "first"));
+        verify(notificationOutboxService, timeout(VERIFY_TIMEOUT_MILLIS))
+                .markDelivered(List.of(1L));
+
+        queue.enqueue(new TelegramMessage(2L, "1", "second"));
+        queue.enqueue(new TelegramMessage(3L, "2", "other"));
+
+        verify(notificationOutboxService, timeout(VERIFY_TIMEOUT_MILLIS))
+                .markDelivered(List.of(3L));
+        verify(sender, never()).send("1", "second");
+        assertThat(queue.inFlightIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("enqueue(): a chat backing off after a failure doesn't hold back other chats")
+    void enqueue_shouldNotBlockWorkerOnRetryBackoff() throws MessageDispatchException {
+        queue = new TelegramNotificationQueue(
+                sender, notificationOutboxService, 10, 1, 10, 10, 3, 60_000, false);
+        doThrow(new MessageDispatchException("Too Many Requests"))
+                .when(sender).send("1", "limited");
+        queue.enqueue(new TelegramMessage(1L, "1", "limited"));
+        queue.enqueue(new TelegramMessage(2L, "2", "other"));
+
+        queue.start();
+
+        verify(notificationOutboxService, timeout(VERIFY_TIMEOUT_MILLIS))
+                .markDelivered(List.of(2L));
+        verify(sender).send("1", "limited");
+        assertThat(queue.inFlightIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("enqueue(): with virtual threads a slow chat doesn't hold back other chats")
+    void enqueue_shouldSendChatsConcurrentlyWithVirtualThreads()
+            throws MessageDispatchException {
+        queue = new TelegramNotificationQueue(
+                sender, notificationOutboxService, 10, 1, 10, 10, 3, 10, true);
+        CountDownLatch slowChatReleased = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            slowChatReleased.await();
+            return null;
+        }).when(sender).send("1", "slow");
+        queue.enqueue(new TelegramMessage(1L, "1", "slow"));
+        queue.enqueue(new TelegramMessage(2L, "2", "fast"));
+
+        queue.start();
+
+        verify(notificationOutboxService, timeout(VERIFY_TIMEOUT_MILLIS))
+                .markDelivered(List.of(2L));
+        slowChatReleased.countDown();
+        verify(notificationOutboxService, timeout(VERIFY_TIMEOUT_MILLIS))
+                .markDelivered(List.of(1L));
+    }
+}
@@ -6,5 +6,9 @@ TRUNCATE TABLE users_roles;
 TRUNCATE TABLE users;
 TRUNCATE TABLE roles;
 TRUNCATE TABLE cars;
+TRUNCATE TABLE outbox;
+TRUNCATE TABLE stripe_events;
+TRUNCATE TABLE idempotency_keys;
+TRUNCATE TABLE reservations;
 
 SET FOREIGN_KEY_CHECKS = 1;